@@ -0,0 +1,100 @@
+package com.example.chatservice.common.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 스레드 모델 비교: 플랫폼 스레드 풀(Tomcat 기본 200) vs 가상 스레드
+ * - 요청 하나 = MySQL 조회(Hikari 80개 풀) + MongoDB 조회(100개 풀) + 그 외 블로킹 I/O
+ * - 커넥션 풀은 Semaphore 로, 쿼리는 sleep 으로 흉내낸다.
+ * - Throughput 과 SampleTime(p99 포함) 을 함께 측정하므로 결과의 p0.99 를 비교한다.
+ * - virtual 은 JDK 21 이상에서만 실행 가능: ./gradlew jmh -PjavaVersion=21
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestThreadingBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"80"})
+    public int mysqlPoolSize;
+
+    @Param({"100"})
+    public int mongoPoolSize;
+
+    @Param({"2"})
+    public long mysqlMillis;
+
+    @Param({"3"})
+    public long mongoMillis;
+
+    @Param({"5"})
+    public long otherBlockingMillis;
+
+    private AsyncTaskExecutor executor;
+    private Semaphore mysqlPool;
+    private Semaphore mongoPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysqlPool = new Semaphore(mysqlPoolSize, true);
+        mongoPool = new Semaphore(mongoPoolSize, true);
+        if ("virtual".equals(threading)) {
+            executor = new VirtualThreadTaskExecutor("bench-virtual-");
+            return;
+        }
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(200);
+        pool.setMaxPoolSize(200);
+        pool.setThreadNamePrefix("bench-platform-");
+        pool.initialize();
+        executor = pool;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    // 동시 요청 수 = JMH 스레드 수 (부하 발생기 역할만 하고 실제 처리는 executor 에서)
+    @Benchmark
+    @Threads(512)
+    public Object handleRequest() throws Exception {
+        return executor.submit(this::simulateRequest).get();
+    }
+
+    private Object simulateRequest() throws InterruptedException {
+        query(mysqlPool, mysqlMillis);
+        query(mongoPool, mongoMillis);
+        Thread.sleep(otherBlockingMillis);
+        return Boolean.TRUE;
+    }
+
+    private static void query(Semaphore pool, long millis) throws InterruptedException {
+        pool.acquire();
+        try {
+            Thread.sleep(millis);
+        } finally {
+            pool.release();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.chatservice.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지/채팅방 ID 생성 비용: UUID.randomUUID (공유 SecureRandom) vs TimeOrderedIdGenerator (CAS)
+ * - 생성기 하나를 모든 스레드가 공유하는 실제 사용 형태로, 1 스레드와 8 스레드 경합을 각각 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGeneratorBenchmark {
+
+    private TimeOrderedIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new TimeOrderedIdGenerator(1, "local");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String uuidSingleThread() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidContended() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String timeOrderedSingleThread() {
+        return generator.nextIdString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String timeOrderedContended() {
+        return generator.nextIdString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long timeOrderedContendedRaw() {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.chatservice.common.response;
+
+import com.example.chatservice.domain.dto.out.ChatMessageResDto;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 페이지 조회의 CPU 구간 (MongoDB 조회 결과를 받은 뒤)
+ * - newestFirst: findChatMessagesByCursor / 최근 메시지 캐시의 최신순 -> 오래된 순 변환과 nextCursor 인코딩
+ * - encodeCursor / decodeCursor: KeysetCursor 문자열 변환 단독
+ * - map: CursorPage.map 으로 응답 DTO 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CursorPageBenchmark {
+
+    @Param({"10", "50"})
+    public int size;
+
+    private List<ChatMessage> newestFirst;
+    private CursorPage<ChatMessage> page;
+    private KeysetCursor cursor;
+    private String encodedCursor;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        newestFirst = new ArrayList<>(size + 1);
+        for (int i = 0; i <= size; i++) {
+            ChatMessage message = ChatMessage.builder()
+                    .messageUuId("message-" + i)
+                    .chatRoomUuid("room")
+                    .senderUuid("sender")
+                    .receiverUuid("receiver")
+                    .content("안녕하세요 메시지 " + i)
+                    .sentAt(now.minusSeconds(i))
+                    .build();
+            message.assignIdIfAbsent();
+            newestFirst.add(message);
+        }
+        page = CursorPage.ofNewestFirst(newestFirst, size, CursorPageBenchmark::cursorOf);
+        ChatMessage last = newestFirst.get(size - 1);
+        cursor = KeysetCursor.of(last.getSentAt(), last.getId());
+        encodedCursor = cursor.encode();
+    }
+
+    @Benchmark
+    public CursorPage<ChatMessage> newestFirst() {
+        return CursorPage.ofNewestFirst(newestFirst, size, CursorPageBenchmark::cursorOf);
+    }
+
+    @Benchmark
+    public String encodeCursor() {
+        return cursor.encode();
+    }
+
+    @Benchmark
+    public KeysetCursor decodeCursor() {
+        return KeysetCursor.decode(encodedCursor);
+    }
+
+    @Benchmark
+    public CursorPage<ChatMessageResDto> map() {
+        return page.map(ChatMessageResDto::from);
+    }
+
+    private static String cursorOf(ChatMessage message) {
+        return KeysetCursor.of(message.getSentAt(), message.getId()).encode();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.chatservice.common.websocket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기본 레지스트리 vs RoomSubscriptionRegistry
+ * - 1:1 채팅방 하나당 세션 2개가 /queue/messages/{chatRoomUuid} 를 구독한 상태에서
+ *   publish: 임의 채팅방 destination 조회
+ *   churn: 새 세션의 구독 후 연결 종료 (재접속이 잦은 모바일 클라이언트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubscriptionRegistryBenchmark {
+
+    private static final String DESTINATION_PREFIX = "/queue/messages/";
+
+    @Param({"10000", "100000", "1000000"})
+    public int subscriptions;
+
+    @Param({"default", "room"})
+    public String registryType;
+
+    private SubscriptionRegistry registry;
+    private Message<?>[] publishMessages;
+    private final AtomicLong churnSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = "room".equals(registryType) ? new RoomSubscriptionRegistry() : new DefaultSubscriptionRegistry();
+
+        int rooms = subscriptions / 2;
+        publishMessages = new Message<?>[rooms];
+        for (int room = 0; room < rooms; room++) {
+            String destination = DESTINATION_PREFIX + "room-" + room;
+            registry.registerSubscription(subscribe("s-" + (room * 2), "sub-0", destination));
+            registry.registerSubscription(subscribe("s-" + (room * 2 + 1), "sub-0", destination));
+            publishMessages[room] = message(destination);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void publish(Blackhole blackhole) {
+        Message<?> message = publishMessages[ThreadLocalRandom.current().nextInt(publishMessages.length)];
+        blackhole.consume(registry.findSubscriptions(message));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void churn() {
+        long sequence = churnSequence.incrementAndGet();
+        String sessionId = "churn-" + sequence;
+        String destination = DESTINATION_PREFIX + "room-" + (sequence % publishMessages.length);
+        registry.registerSubscription(subscribe(sessionId, "sub-0", destination));
+        registry.unregisterAllSubscriptions(sessionId);
+    }
+
+    private static Message<?> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("", accessor.getMessageHeaders());
+    }
+
+    private static Message<?> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("", accessor.getMessageHeaders());
+    }
+}
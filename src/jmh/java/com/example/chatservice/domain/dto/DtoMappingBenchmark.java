@@ -0,0 +1,85 @@
+package com.example.chatservice.domain.dto;
+
+import com.example.chatservice.common.id.TimeOrderedIdGenerator;
+import com.example.chatservice.domain.dto.in.SendChatMessageReqDto;
+import com.example.chatservice.domain.dto.out.ChatRoomListResDto;
+import com.example.chatservice.domain.dto.out.SendChatMessageResDto;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.example.chatservice.domain.entiy.ChatRoom;
+import com.example.chatservice.domain.infrastructure.cache.CachedChatRoom;
+import com.example.chatservice.domain.vo.in.SendChatMessageReqVo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전송/채팅방 목록 경로의 DTO 변환 비용
+ * - sendReqOf + toEntity: STOMP 프레임 -> ChatMessage (ID 생성 포함)
+ * - sendResFrom: ChatMessage -> 브로드캐스트 payload
+ * - roomListFrom: 채팅방 목록 항목 (캐시된 채팅방 -> 응답, 서비스가 쓰는 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private TimeOrderedIdGenerator idGenerator;
+    private SendChatMessageReqVo vo;
+    private SendChatMessageReqDto dto;
+    private ChatMessage chatMessage;
+    private CachedChatRoom cachedChatRoom;
+
+    @Setup
+    public void setUp() {
+        idGenerator = new TimeOrderedIdGenerator(1, "local");
+        vo = SendChatMessageReqVo.builder()
+                .chatRoomUuid("0J9Q5Z3K2M1AB")
+                .receiverUuid("receiver-uuid")
+                .content("안녕하세요, 수업 일정 문의드립니다.")
+                .clientMessageId("client-1")
+                .build();
+        dto = SendChatMessageReqDto.of("sender-uuid", vo);
+        chatMessage = dto.toEntity(idGenerator.nextIdString());
+        chatMessage.assignSeq(42);
+
+        ChatRoom chatRoom = ChatRoom.builder()
+                .chatRoomUuid("0J9Q5Z3K2M1AB")
+                .participantAUuid("sender-uuid")
+                .participantBUuid("receiver-uuid")
+                .build();
+        cachedChatRoom = CachedChatRoom.from(chatRoom)
+                .withLastMessage("안녕하세요, 수업 일정 문의드립니다.", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public SendChatMessageReqDto sendReqOf() {
+        return SendChatMessageReqDto.of("sender-uuid", vo);
+    }
+
+    @Benchmark
+    public ChatMessage toEntity() {
+        return dto.toEntity(idGenerator.nextIdString());
+    }
+
+    @Benchmark
+    public ChatMessage sendReqOfAndToEntity() {
+        return SendChatMessageReqDto.of("sender-uuid", vo).toEntity(idGenerator.nextIdString());
+    }
+
+    @Benchmark
+    public SendChatMessageResDto sendResFrom() {
+        return SendChatMessageResDto.from(chatMessage);
+    }
+
+    @Benchmark
+    public ChatRoomListResDto roomListFrom() {
+        return ChatRoomListResDto.from(cachedChatRoom, "sender-uuid", 3);
+    }
+}
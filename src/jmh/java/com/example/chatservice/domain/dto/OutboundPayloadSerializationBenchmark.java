@@ -0,0 +1,91 @@
+package com.example.chatservice.domain.dto;
+
+import com.example.chatservice.domain.dto.out.ChatReadStatusResDto;
+import com.example.chatservice.domain.dto.out.ChatRoomUpdatedResDto;
+import com.example.chatservice.domain.dto.out.SendChatMessageResDto;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 -> 클라이언트 STOMP payload 직렬화
+ * - 앱의 메시지 변환기는 Spring Boot 가 설정한 ObjectMapper(JacksonAutoConfiguration)를 쓰므로 같은 기본값으로 만든다.
+ *   (spring.jackson.* 설정은 없음)
+ * - message: /user/queue/messages, read: /user/queue/read, room: /user/queue/rooms
+ * - messageCbor: accept-content-type=application/cbor 세션용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboundPayloadSerializationBenchmark {
+
+    private ObjectWriter jsonWriter;
+    private ObjectWriter cborWriter;
+    private SendChatMessageResDto message;
+    private ChatReadStatusResDto readStatus;
+    private ChatRoomUpdatedResDto roomUpdated;
+
+    @Setup
+    public void setUp() {
+        jsonWriter = bootObjectMapperBuilder().build().writer();
+        cborWriter = bootObjectMapperBuilder().factory(new CBORFactory()).build().writer();
+
+        ChatMessage chatMessage = ChatMessage.builder()
+                .messageUuId("0J9Q5Z3K2M1AB")
+                .chatRoomUuid("0J9Q5Z3K2M0ZZ")
+                .senderUuid("sender-uuid")
+                .receiverUuid("receiver-uuid")
+                .content("안녕하세요, 수업 일정 문의드립니다. 이번 주 토요일 오후에 가능할까요?")
+                .sentAt(LocalDateTime.now())
+                .clientMessageId("client-1")
+                .build();
+        chatMessage.assignSeq(42);
+        message = SendChatMessageResDto.from(chatMessage);
+        readStatus = ChatReadStatusResDto.of("0J9Q5Z3K2M0ZZ", "receiver-uuid", LocalDateTime.now());
+        roomUpdated = ChatRoomUpdatedResDto.of(chatMessage, "sender-uuid", 3);
+    }
+
+    @Benchmark
+    public byte[] message() throws JsonProcessingException {
+        return jsonWriter.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] messageCbor() throws JsonProcessingException {
+        return cborWriter.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] read() throws JsonProcessingException {
+        return jsonWriter.writeValueAsBytes(readStatus);
+    }
+
+    @Benchmark
+    public byte[] room() throws JsonProcessingException {
+        return jsonWriter.writeValueAsBytes(roomUpdated);
+    }
+
+    // JacksonAutoConfiguration 의 기본값: 날짜/기간을 숫자 대신 ISO 문자열로, ParameterNamesModule 등록
+    private static Jackson2ObjectMapperBuilder bootObjectMapperBuilder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS
+                )
+                .modulesToInstall(new ParameterNamesModule());
+    }
+}
@@ -0,0 +1,375 @@
+package com.example.chatservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로컬에서 실행 중인 chat-service 대상 종단 간 부하 테스트
+ * 1. POST /api/v1/chat-room/create 로 1:1 채팅방 생성
+ * 2. 회원마다 sessionsPerMember 개의 STOMP 세션을 /ws-chat 에 연결하고 /user/queue/messages 구독
+ * 3. 설정한 rate 로 /app/chat.sendMessage 전송, 받는 사람의 각 세션에 도착하기까지의 지연을 HdrHistogram 으로 기록
+ *
+ * - 전송 예정 시각을 clientMessageId 에 담아 예정 시각 기준으로 측정한다 (전송이 밀려도 지연이 과소 측정되지 않음)
+ * - warmup 동안 예정된 메시지는 집계에서 제외한다 (구독 등록 대기 포함)
+ */
+public class ChatLoadTest {
+
+    private static final String CREATE_ROOM_PATH = "/api/v1/chat-room/create";
+    private static final String SEND_DESTINATION = "/app/chat.sendMessage";
+    private static final String MESSAGE_QUEUE = "/user/queue/messages";
+    private static final String MEMBER_UUID_HEADER = "X-Member-UUID";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    // 지연 (마이크로초)
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder measuredSent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder measuredDelivered = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private volatile long startNanos;
+    private volatile long measureStartNanos;
+    private long lastReportNanos;
+
+    public ChatLoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ChatLoadTest(LoadTestOptions.fromSystemProperties()).run();
+    }
+
+    public void run() throws Exception {
+        System.out.printf(
+                "target=%s rooms=%d sessions=%d sessionsPerMember=%d rate=%.0f/s warmup=%ds duration=%ds roomSkew=%.2f%n",
+                options.baseUrl(), options.rooms(), options.rooms() * 2 * options.sessionsPerMember(),
+                options.sessionsPerMember(), options.rate(), options.warmup().toSeconds(),
+                options.duration().toSeconds(), options.roomSkew()
+        );
+
+        ExecutorService setup = Executors.newFixedThreadPool(options.setupParallelism());
+        WebSocketStompClient stompClient = stompClient();
+        List<Room> rooms = List.of();
+        try {
+            rooms = createRooms(setup);
+            System.out.printf("채팅방 %d개 생성%n", rooms.size());
+            connect(rooms, stompClient);
+            System.out.printf("STOMP 세션 %d개 연결%n", rooms.size() * 2 * options.sessionsPerMember());
+            runLoad(rooms);
+        } finally {
+            disconnect(rooms);
+            setup.shutdownNow();
+            stompClient.stop();
+        }
+    }
+
+    private WebSocketStompClient stompClient() {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+        return stompClient;
+    }
+
+    // 1. 채팅방 생성
+    private List<Room> createRooms(ExecutorService setup) {
+        RestClient restClient = RestClient.builder().baseUrl(options.baseUrl()).build();
+        List<CompletableFuture<Room>> futures = new ArrayList<>(options.rooms());
+        for (int i = 0; i < options.rooms(); i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> createRoom(restClient), setup));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private Room createRoom(RestClient restClient) {
+        Member participantA = new Member(UUID.randomUUID().toString(), options.sessionsPerMember());
+        Member participantB = new Member(UUID.randomUUID().toString(), options.sessionsPerMember());
+        JsonNode response = restClient.post()
+                .uri(CREATE_ROOM_PATH)
+                .header(MEMBER_UUID_HEADER, participantA.uuid())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("participantBUuid", participantB.uuid()))
+                .retrieve()
+                .body(JsonNode.class);
+        String chatRoomUuid = response == null ? null : response.path("result").path("chatRoomUuid").asText(null);
+        if (chatRoomUuid == null) {
+            throw new IllegalStateException("채팅방 생성 실패: " + response);
+        }
+        return new Room(chatRoomUuid, participantA, participantB);
+    }
+
+    // 2. 세션 연결 (동시에 진행하는 핸드셰이크 수는 setupParallelism 으로 제한)
+    private void connect(List<Room> rooms, WebSocketStompClient stompClient) throws Exception {
+        Semaphore permits = new Semaphore(options.setupParallelism());
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (Room room : rooms) {
+            for (Member member : List.of(room.participantA(), room.participantB())) {
+                for (int i = 0; i < options.sessionsPerMember(); i++) {
+                    int index = i;
+                    permits.acquire();
+                    // 서버는 핸드셰이크 헤더로만 회원을 식별한다 (게이트웨이 역할)
+                    WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+                    handshakeHeaders.add(MEMBER_UUID_HEADER, member.uuid());
+                    futures.add(stompClient.connectAsync(
+                                    options.webSocketUrl(), handshakeHeaders, new StompHeaders(),
+                                    new MemberSessionHandler(member)
+                            )
+                            .thenAccept(session -> member.sessions()[index] = session)
+                            .whenComplete((ignored, e) -> permits.release()));
+                }
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .get(CONNECT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 3. 전송 (예정 시각마다 전송 작업을 senderThreads 에 넘긴다)
+    private void runLoad(List<Room> rooms) throws Exception {
+        SkewedRoomPicker roomPicker = new SkewedRoomPicker(rooms.size(), options.roomSkew());
+        System.out.printf("가장 많이 선택되는 채팅방의 전송 비중: %.2f%%%n", roomPicker.hottestShare() * 100);
+        String content = "x".repeat(options.payloadBytes());
+        long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / options.rate()));
+
+        ExecutorService senders = Executors.newFixedThreadPool(options.senderThreads());
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        startNanos = System.nanoTime();
+        lastReportNanos = startNanos;
+        measureStartNanos = startNanos + options.warmup().toNanos();
+        long endNanos = measureStartNanos + options.duration().toNanos();
+        long reportIntervalMillis = options.reportInterval().toMillis();
+        reporter.scheduleAtFixedRate(this::report, reportIntervalMillis, reportIntervalMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            long scheduledAt = startNanos;
+            while (scheduledAt < endNanos) {
+                long now = System.nanoTime();
+                if (now < scheduledAt) {
+                    LockSupport.parkNanos(scheduledAt - now);
+                    continue;
+                }
+                Room room = rooms.get(roomPicker.next());
+                long intended = scheduledAt;
+                senders.execute(() -> send(room, intended, content));
+                scheduledAt += intervalNanos;
+            }
+            senders.shutdown();
+            senders.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            awaitDeliveries();
+        } finally {
+            senders.shutdownNow();
+            reporter.shutdownNow();
+        }
+        report();
+        printSummary();
+    }
+
+    private void send(Room room, long scheduledAt, String content) {
+        boolean fromA = ThreadLocalRandom.current().nextBoolean();
+        Member sender = fromA ? room.participantA() : room.participantB();
+        Member receiver = fromA ? room.participantB() : room.participantA();
+        StompSession session = sender.anySession();
+        Map<String, Object> payload = Map.of(
+                "chatRoomUuid", room.chatRoomUuid(),
+                "receiverUuid", receiver.uuid(),
+                "content", content,
+                "clientMessageId", scheduledAt + ":" + sequence.incrementAndGet()
+        );
+        try {
+            // WebSocket 세션은 동시 전송을 지원하지 않음
+            synchronized (session) {
+                session.send(SEND_DESTINATION, payload);
+            }
+            sent.increment();
+            if (scheduledAt >= measureStartNanos) {
+                measuredSent.increment();
+            }
+        } catch (RuntimeException e) {
+            sendFailures.increment();
+        }
+    }
+
+    private void onMessage(Member member, JsonNode payload) {
+        long receivedAt = System.nanoTime();
+        // 보낸 사람 본인의 세션으로 돌아온 사본은 제외
+        if (payload == null || !member.uuid().equals(payload.path("receiverUuid").asText())) {
+            return;
+        }
+        String clientMessageId = payload.path("clientMessageId").asText("");
+        int separator = clientMessageId.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        long scheduledAt = Long.parseLong(clientMessageId.substring(0, separator));
+        delivered.increment();
+        if (scheduledAt < measureStartNanos) {
+            return;
+        }
+        measuredDelivered.increment();
+        recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(receivedAt - scheduledAt)));
+    }
+
+    // 측정 구간에 보낸 메시지가 받는 사람의 모든 세션에 도착할 때까지 (최대 DRAIN_TIMEOUT) 대기
+    private void awaitDeliveries() throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (measuredDelivered.sum() < measuredSent.sum() * options.sessionsPerMember()
+                && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private synchronized void report() {
+        long now = System.nanoTime();
+        Histogram interval = recorder.getIntervalHistogram();
+        total.add(interval);
+        double seconds = Math.max(1e-9, (now - lastReportNanos) / 1e9);
+        lastReportNanos = now;
+        System.out.printf(
+                "[%6.1fs] sent=%d delivered=%d interval: %.0f deliveries/s p50=%.2fms p99=%.2fms max=%.2fms errors=%d%n",
+                (now - startNanos) / 1e9, sent.sum(), delivered.sum(), interval.getTotalCount() / seconds,
+                millis(interval.getValueAtPercentile(50)), millis(interval.getValueAtPercentile(99)),
+                millis(interval.getMaxValue()), errors.sum() + sendFailures.sum()
+        );
+    }
+
+    private void printSummary() throws IOException {
+        long expected = measuredSent.sum() * options.sessionsPerMember();
+        double seconds = options.duration().toNanos() / 1e9;
+        System.out.println("==== 결과 (warmup 제외) ====");
+        System.out.printf("sent=%d delivered=%d expected=%d lost=%d sendFailures=%d errors=%d%n",
+                measuredSent.sum(), measuredDelivered.sum(), expected,
+                Math.max(0, expected - measuredDelivered.sum()), sendFailures.sum(), errors.sum());
+        System.out.printf("throughput: %.1f messages/s sent, %.1f deliveries/s received%n",
+                measuredSent.sum() / seconds, measuredDelivered.sum() / seconds);
+        System.out.printf("latency(ms): p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f p99.99=%.2f max=%.2f mean=%.2f%n",
+                millis(total.getValueAtPercentile(50)), millis(total.getValueAtPercentile(90)),
+                millis(total.getValueAtPercentile(99)), millis(total.getValueAtPercentile(99.9)),
+                millis(total.getValueAtPercentile(99.99)), millis(total.getMaxValue()), total.getMean() / 1000.0);
+
+        if (!options.histogramFile().isEmpty()) {
+            try (PrintStream out = new PrintStream(options.histogramFile())) {
+                total.outputPercentileDistribution(out, 1000.0);
+            }
+            System.out.printf("percentile distribution (ms): %s%n", options.histogramFile());
+        }
+    }
+
+    private void disconnect(List<Room> rooms) {
+        for (Room room : rooms) {
+            for (Member member : List.of(room.participantA(), room.participantB())) {
+                for (StompSession session : member.sessions()) {
+                    if (session != null && session.isConnected()) {
+                        session.disconnect();
+                    }
+                }
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private record Room(String chatRoomUuid, Member participantA, Member participantB) {
+    }
+
+    private record Member(String uuid, StompSession[] sessions) {
+
+        Member(String uuid, int sessionsPerMember) {
+            this(uuid, new StompSession[sessionsPerMember]);
+        }
+
+        StompSession anySession() {
+            return sessions[ThreadLocalRandom.current().nextInt(sessions.length)];
+        }
+    }
+
+    // 연결, 구독, ERROR 프레임 / 전송 오류 집계
+    private final class MemberSessionHandler extends StompSessionHandlerAdapter {
+
+        private final Member member;
+
+        private MemberSessionHandler(Member member) {
+            this.member = member;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            session.subscribe(MESSAGE_QUEUE, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return JsonNode.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    onMessage(member, (JsonNode) payload);
+                }
+            });
+        }
+
+        // 구독 밖으로 오는 프레임은 ERROR 뿐이므로 본문은 변환하지 않는다
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            errors.increment();
+        }
+
+        @Override
+        public void handleException(
+                StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception
+        ) {
+            errors.increment();
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            errors.increment();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.chatservice.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (-Pload.xxx=... 또는 -Dload.xxx=...)
+ * - 채팅방은 1:1 이므로 채팅방 크기 분포 대신
+ *   회원당 세션 수(sessionsPerMember, 메시지 하나가 전달되는 세션 수)와
+ *   채팅방별 전송 비중의 쏠림(roomSkew, Zipf 지수, 0 이면 균등)으로 분포를 조절한다.
+ */
+public record LoadTestOptions(
+        String baseUrl,
+        int sessions,
+        int sessionsPerMember,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        double roomSkew,
+        int payloadBytes,
+        int senderThreads,
+        int setupParallelism,
+        Duration reportInterval,
+        String histogramFile
+) {
+
+    public static LoadTestOptions fromSystemProperties() {
+        LoadTestOptions options = new LoadTestOptions(
+                property("load.base-url", "http://localhost:2000"),
+                Integer.parseInt(property("load.sessions", "200")),
+                Integer.parseInt(property("load.sessions-per-member", "1")),
+                Double.parseDouble(property("load.rate", "500")),
+                Duration.ofSeconds(Long.parseLong(property("load.duration-seconds", "60"))),
+                Duration.ofSeconds(Long.parseLong(property("load.warmup-seconds", "10"))),
+                Double.parseDouble(property("load.room-skew", "0")),
+                Integer.parseInt(property("load.payload-bytes", "100")),
+                Integer.parseInt(property("load.sender-threads", "4")),
+                Integer.parseInt(property("load.setup-parallelism", "32")),
+                Duration.ofSeconds(Long.parseLong(property("load.report-interval-seconds", "5"))),
+                property("load.histogram-file", "")
+        );
+        if (options.rooms() < 1) {
+            throw new IllegalArgumentException("load.sessions 는 2 * load.sessions-per-member 이상이어야 합니다.");
+        }
+        if (options.rate() <= 0) {
+            throw new IllegalArgumentException("load.rate 는 0 보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    public int rooms() {
+        return sessions / (2 * sessionsPerMember);
+    }
+
+    public String webSocketUrl() {
+        return baseUrl.replaceFirst("^http", "ws") + "/ws-chat";
+    }
+
+    private static String property(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
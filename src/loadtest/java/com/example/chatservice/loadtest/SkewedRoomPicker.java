@@ -0,0 +1,37 @@
+package com.example.chatservice.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 채팅방 선택 (Zipf 분포)
+ * - i 번째 채팅방의 비중이 1 / (i + 1)^skew, skew 가 0 이면 균등
+ * - 누적 비중 배열을 이분 탐색하므로 선택은 O(log rooms)
+ */
+final class SkewedRoomPicker {
+
+    private final double[] cumulative;
+
+    SkewedRoomPicker(int rooms, double skew) {
+        cumulative = new double[rooms];
+        double sum = 0;
+        for (int i = 0; i < rooms; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < rooms; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int next() {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        int room = index >= 0 ? index : -index - 1;
+        return Math.min(room, cumulative.length - 1);
+    }
+
+    // 가장 많이 선택되는 채팅방의 비중 (리포트용)
+    double hottestShare() {
+        return cumulative[0];
+    }
+}
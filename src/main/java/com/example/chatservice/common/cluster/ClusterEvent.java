@@ -0,0 +1,23 @@
+package com.example.chatservice.common.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 인스턴스 간에 주고받는 채팅방 이벤트
+ * - type 이 DELIVERY 인 경우 destination 으로 payload 를 그대로 전달한다. (memberUuid 가 있으면 해당 회원의 user destination 으로)
+ */
+public record ClusterEvent(
+        String nodeId,
+        String chatRoomUuid,
+        String type,
+        String destination,
+        String memberUuid,
+        JsonNode payload
+) {
+
+    public static final String DELIVERY = "delivery";
+
+    public boolean isDelivery() {
+        return DELIVERY.equals(type);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.chatservice.common.cluster;
+
+/**
+ * 다른 인스턴스에서 발행된 이벤트 수신 (자기 자신이 발행한 이벤트는 전달되지 않음)
+ */
+public interface ClusterEventListener {
+
+    void onRemoteEvent(ClusterEvent event);
+}
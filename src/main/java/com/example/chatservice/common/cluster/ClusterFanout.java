@@ -0,0 +1,17 @@
+package com.example.chatservice.common.cluster;
+
+/**
+ * 인스턴스 간 채팅방 이벤트 전파
+ * - broadcast: 모든 인스턴스에서 해당 destination 을 구독 중인 로컬 세션에게 전달
+ * - sendToUser: 모든 인스턴스에서 해당 회원의 세션(/user/{memberUuid}{destination} 구독) 전체에게 전달
+ * - publish: STOMP 로 전달하지 않고 다른 인스턴스의 ClusterEventListener 에게만 알림 (캐시 갱신 등)
+ * - 두 경우 모두 chatRoomUuid 를 키로 사용하므로 같은 채팅방의 이벤트는 발행 순서대로 전달된다.
+ */
+public interface ClusterFanout {
+
+    void broadcast(String chatRoomUuid, String destination, Object payload);
+
+    void sendToUser(String chatRoomUuid, String memberUuid, String destination, Object payload);
+
+    void publish(String chatRoomUuid, String type, Object payload);
+}
@@ -0,0 +1,137 @@
+package com.example.chatservice.common.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.List;
+
+/**
+ * Kafka 토픽을 공유 버스로 사용하는 구현
+ * - 발행한 인스턴스는 로컬 구독자에게 먼저 전달하고, 토픽에는 chatRoomUuid 를 키로 발행한다.
+ * - 인스턴스마다 별도의 consumer group(nodeId 기준)으로 토픽 전체를 구독하고, 자기 자신이 발행한 이벤트는 건너뛴다.
+ * - 기동 이후의 이벤트만 의미가 있으므로 새 consumer group 은 latest 부터 읽는다.
+ */
+@Slf4j
+public class KafkaClusterFanout implements ClusterFanout {
+
+    private final String nodeId;
+    private final String topic;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final List<ClusterEventListener> listeners;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMessageListenerContainer<String, String> container;
+
+    public KafkaClusterFanout(
+            String nodeId,
+            String topic,
+            KafkaTemplate<String, String> kafkaTemplate,
+            ConsumerFactory<String, String> consumerFactory,
+            SimpMessageSendingOperations messagingTemplate,
+            List<ClusterEventListener> listeners,
+            ObjectMapper objectMapper
+    ) {
+        this.nodeId = nodeId;
+        this.topic = topic;
+        this.kafkaTemplate = kafkaTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.listeners = listeners;
+        this.objectMapper = objectMapper;
+
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setGroupId("chat-fanout-" + nodeId);
+        containerProperties.getKafkaConsumerProperties()
+                .setProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        containerProperties.setMessageListener((MessageListener<String, String>) this::onRecord);
+        this.container = new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
+        this.container.setBeanName("chat-fanout");
+    }
+
+    @PostConstruct
+    public void start() {
+        container.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        container.stop();
+    }
+
+    @Override
+    public void broadcast(String chatRoomUuid, String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        send(new ClusterEvent(
+                nodeId, chatRoomUuid, ClusterEvent.DELIVERY, destination, null, objectMapper.valueToTree(payload)
+        ));
+    }
+
+    // 같은 회원의 다른 기기가 다른 인스턴스에 연결되어 있을 수 있으므로 로컬 전달 후 토픽에도 발행
+    @Override
+    public void sendToUser(String chatRoomUuid, String memberUuid, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(memberUuid, destination, payload);
+        send(new ClusterEvent(
+                nodeId, chatRoomUuid, ClusterEvent.DELIVERY, destination, memberUuid, objectMapper.valueToTree(payload)
+        ));
+    }
+
+    @Override
+    public void publish(String chatRoomUuid, String type, Object payload) {
+        send(new ClusterEvent(nodeId, chatRoomUuid, type, null, null, objectMapper.valueToTree(payload)));
+    }
+
+    ConcurrentMessageListenerContainer<String, String> listenerContainer() {
+        return container;
+    }
+
+    private void send(ClusterEvent event) {
+        String value;
+        try {
+            value = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("클러스터 이벤트 직렬화 실패", e);
+        }
+        kafkaTemplate.send(topic, event.chatRoomUuid(), value)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("클러스터 이벤트 발행 실패: room={}, type={}", event.chatRoomUuid(), event.type(), e);
+                    }
+                });
+    }
+
+    private void onRecord(ConsumerRecord<String, String> record) {
+        ClusterEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), ClusterEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("클러스터 이벤트 역직렬화 실패: offset={}", record.offset(), e);
+            return;
+        }
+        if (nodeId.equals(event.nodeId())) {
+            return; // 발행 시 이미 로컬로 전달함
+        }
+
+        if (event.isDelivery() && event.memberUuid() != null) {
+            messagingTemplate.convertAndSendToUser(event.memberUuid(), event.destination(), event.payload());
+        } else if (event.isDelivery()) {
+            messagingTemplate.convertAndSend(event.destination(), event.payload());
+        }
+        for (ClusterEventListener listener : listeners) {
+            try {
+                listener.onRemoteEvent(event);
+            } catch (RuntimeException e) {
+                log.error("클러스터 이벤트 처리 실패: room={}, type={}", event.chatRoomUuid(), event.type(), e);
+            }
+        }
+    }
+}
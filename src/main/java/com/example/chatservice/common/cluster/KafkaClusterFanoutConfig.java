@@ -0,0 +1,48 @@
+package com.example.chatservice.common.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "chat.cluster.bus", havingValue = "kafka")
+public class KafkaClusterFanoutConfig {
+
+    @Value("${chat.cluster.kafka.topic:chat-room-events}")
+    private String topic;
+
+    @Bean
+    public NewTopic chatRoomEventsTopic(@Value("${chat.cluster.kafka.partitions:12}") int partitions) {
+        return TopicBuilder.name(topic).partitions(partitions).build();
+    }
+
+    @Bean
+    public KafkaClusterFanout kafkaClusterFanout(
+            @Value("${chat.cluster.node-id:}") String nodeId,
+            KafkaTemplate<String, String> kafkaTemplate,
+            ConsumerFactory<String, String> consumerFactory,
+            SimpMessageSendingOperations messagingTemplate,
+            List<ClusterEventListener> listeners,
+            ObjectMapper objectMapper
+    ) {
+        // 재기동 시에도 다른 인스턴스와 겹치지 않도록 지정하지 않으면 매번 새로 만든다
+        String resolvedNodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        log.info(">>> 클러스터 fan-out: kafka (node={}, topic={})", resolvedNodeId, topic);
+        return new KafkaClusterFanout(
+                resolvedNodeId, topic, kafkaTemplate, consumerFactory, messagingTemplate, listeners, objectMapper
+        );
+    }
+}
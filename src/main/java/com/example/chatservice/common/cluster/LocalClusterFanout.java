@@ -0,0 +1,32 @@
+package com.example.chatservice.common.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스(및 테스트)용 구현: 로컬 브로커로만 전달하고 다른 인스턴스로는 아무것도 보내지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.cluster.bus", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalClusterFanout implements ClusterFanout {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @Override
+    public void broadcast(String chatRoomUuid, String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+
+    @Override
+    public void sendToUser(String chatRoomUuid, String memberUuid, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(memberUuid, destination, payload);
+    }
+
+    @Override
+    public void publish(String chatRoomUuid, String type, Object payload) {
+        // 다른 인스턴스가 없음
+    }
+}
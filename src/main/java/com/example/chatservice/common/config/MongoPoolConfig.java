@@ -0,0 +1,33 @@
+package com.example.chatservice.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB 커넥션 풀 설정 (가상 스레드 모드에서만, 플랫폼 스레드 모드는 드라이버/URI 기본값 그대로)
+ * - 가상 스레드 모드에서는 요청 스레드 수에 제한이 없으므로 커넥션 풀 크기가 곧 동시 처리량 상한이다.
+ *   대기 시간(max-wait-time)을 짧게 두어 풀이 고갈되면 무한히 쌓이지 않고 빨리 실패하도록 한다.
+ * - URI 에 지정한 값보다 나중에 적용된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoConnectionPoolCustomizer(
+            @Value("${chat.mongo.pool.max-size:100}") int maxSize,
+            @Value("${chat.mongo.pool.min-size:10}") int minSize,
+            @Value("${chat.mongo.pool.max-wait-time:2s}") Duration maxWaitTime
+    ) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .minSize(minSize)
+                .maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
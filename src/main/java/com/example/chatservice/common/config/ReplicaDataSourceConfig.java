@@ -0,0 +1,105 @@
+package com.example.chatservice.common.config;
+
+import com.example.chatservice.common.datasource.ReadYourWritesContext;
+import com.example.chatservice.common.datasource.ReplicaDataSourceProperties;
+import com.example.chatservice.common.datasource.ReplicaRoutingDataSource;
+import com.example.chatservice.common.websocket.MemberPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL read replica 라우팅 (chat.datasource.replica.enabled=true 인 경우)
+ * - primary: spring.datasource(.hikari) 설정 그대로
+ * - replica: chat.datasource.replica.replicas 마다 읽기 전용 Hikari 풀 (기동 시 연결되지 않아도 실패하지 않음)
+ * - 애플리케이션이 쓰는 dataSource 는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ * - read-your-writes 대상 회원은 STOMP 메시지 처리 중이면 세션 회원(ReadYourWritesContext), 아니면 REST 요청의 X-Member-UUID 헤더로 식별한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties replicaProperties,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Replica> replicaList = replicaProperties.getReplicas();
+        for (int i = 0; i < replicaList.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, replicaPool(
+                    name, replicaList.get(i), dataSourceProperties, replicaProperties, meterRegistry
+            ));
+        }
+        return new ReplicaRoutingDataSource(
+                primaryDataSource, replicas, replicaProperties.getReadYourWritesWindow(),
+                ReplicaDataSourceConfig::currentMemberUuid
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource replicaPool(
+            String name,
+            ReplicaDataSourceProperties.Replica replica,
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties replicaProperties,
+            MeterRegistry meterRegistry
+    ) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("chat-" + name);
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(StringUtils.hasText(replica.getUsername())
+                ? replica.getUsername() : dataSourceProperties.determineUsername());
+        pool.setPassword(StringUtils.hasText(replica.getPassword())
+                ? replica.getPassword() : dataSourceProperties.determinePassword());
+        pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        pool.setReadOnly(true);
+        pool.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        pool.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+        pool.setInitializationFailTimeout(-1); // replica 가 내려가 있어도 기동은 진행 (primary 로 읽음)
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    private static String currentMemberUuid() {
+        String memberUuid = ReadYourWritesContext.currentMemberUuid();
+        if (memberUuid != null) {
+            return memberUuid;
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(MemberPrincipal.MEMBER_UUID_HEADER);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.chatservice.common.config;
+
+import com.example.chatservice.common.slowquery.SlowMongoCommandListener;
+import com.example.chatservice.common.slowquery.SlowQueryRecorder;
+import com.example.chatservice.common.slowquery.SlowSqlQueryListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 느린 쿼리 기록 연결 (chat.slow-query.*)
+ * - MongoDB: MongoClient 에 command listener 추가
+ * - JPA: 애플리케이션 DataSource(dataSource 빈)를 실행 시간을 재는 프록시로 감싼다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowMongoCommandCustomizer(SlowQueryRecorder slowQueryRecorder) {
+        return builder -> builder.addCommandListener(new SlowMongoCommandListener(slowQueryRecorder));
+    }
+
+    @Bean
+    public static BeanPostProcessor slowSqlDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> slowQueryRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SlowSqlQueryListener(slowQueryRecorder.getObject()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
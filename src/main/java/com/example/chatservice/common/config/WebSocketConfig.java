@@ -1,16 +1,77 @@
 package com.example.chatservice.common.config;
 
 import com.example.chatservice.common.config.interceptor.WebSocketHandshakeInterceptor;
+import com.example.chatservice.common.websocket.CborFrameTranscoder;
+import com.example.chatservice.common.websocket.ChannelQueueDepthInterceptor;
+import com.example.chatservice.common.websocket.MemberConnectInterceptor;
+import com.example.chatservice.common.websocket.MemberHandshakeHandler;
+import com.example.chatservice.common.websocket.ReadYourWritesChannelInterceptor;
+import com.example.chatservice.common.websocket.RoomSubscriptionRegistry;
+import com.example.chatservice.common.websocket.StompEncodingNegotiator;
+import com.example.chatservice.common.websocket.StompFrameEncoding;
+import com.example.chatservice.common.websocket.WebSocketMetrics;
+import com.example.chatservice.common.websocket.WebSocketSessionMonitor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    private final StompEncodingNegotiator stompEncodingNegotiator;
+    private final MemberConnectInterceptor memberConnectInterceptor;
+    private final ReadYourWritesChannelInterceptor readYourWritesChannelInterceptor;
+    private final CborFrameTranscoder cborFrameTranscoder;
+    private final Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.websocket.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${chat.websocket.send-buffer-size-limit:512KB}")
+    private DataSize sendBufferSizeLimit;
+
+    @Value("${chat.websocket.message-size-limit:64KB}")
+    private DataSize messageSizeLimit;
+
+    @Value("${chat.websocket.inbound.pool-size:16}")
+    private int inboundPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.outbound.pool-size:16}")
+    private int outboundPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:100000}")
+    private int outboundQueueCapacity;
+
     // 1. 메시지 브로커 설정
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -20,7 +81,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 클라이언트가 메시지를 보낼 때 사용할 prefix
         registry.setApplicationDestinationPrefixes("/app");
 
-        // 1:1 메시징을 위한 prefix
+        // 1:1 메시징을 위한 prefix (/user/queue/messages 등 회원의 모든 세션으로 전달)
         registry.setUserDestinationPrefix("/user");
     }
 
@@ -31,6 +92,89 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-chat")
                 .setAllowedOrigins("*")
                 .setAllowedOriginPatterns("*") // CORS 허용
+                .setHandshakeHandler(new MemberHandshakeHandler()) // 회원 UUID 를 세션 principal 로 지정
                 .addInterceptors(new WebSocketHandshakeInterceptor());
     }
+
+    // 3. 세션별 전송 한도 (넘으면 Spring 이 세션을 끊음) + 세션 대기열 감시
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes())
+                .addDecoratorFactory(webSocketSessionMonitor)
+                .addDecoratorFactory(cborFrameTranscoder);
+    }
+
+    // 4. 클라이언트 -> 서버 처리 스레드
+    // 가상 스레드 모드에서는 @MessageMapping 처리를 가상 스레드로 실행하고, 동시 처리량은 DB 커넥션 풀이 제한한다.
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(
+                new ChannelQueueDepthInterceptor(meterRegistry, "inbound"),
+                memberConnectInterceptor,
+                stompEncodingNegotiator,
+                readYourWritesChannelInterceptor
+        );
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(new VirtualThreadTaskExecutor("chat-inbound-"));
+            return;
+        }
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    // 5. 서버 -> 클라이언트 전송 스레드 (느린 세션은 WebSocketSessionMonitor 가 정책에 따라 처리)
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(
+                new ChannelQueueDepthInterceptor(meterRegistry, "outbound"),
+                webSocketSessionMonitor,
+                cborFrameTranscoder
+        );
+    }
+
+    // 6. CBOR 로 보낸 SEND 프레임 본문 변환 (JSON 변환기 등 기본 설정은 그대로 유지)
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        MappingJackson2MessageConverter cborConverter =
+                new MappingJackson2MessageConverter(StompFrameEncoding.CBOR.getMimeType());
+        cborConverter.setObjectMapper(jackson2ObjectMapperBuilder.factory(new CBORFactory()).build());
+        messageConverters.add(cborConverter);
+        return true;
+    }
+
+    // 7. simple broker 구독 레지스트리 교체 (채팅방 destination 정확 일치 인덱스)
+    // SimpleBrokerRegistration 에는 레지스트리 설정이 없어 생성된 핸들러에 직접 지정
+    @Bean
+    public static RoomSubscriptionRegistry roomSubscriptionRegistry() {
+        return new RoomSubscriptionRegistry();
+    }
+
+    @Bean
+    public static BeanPostProcessor roomSubscriptionRegistryPostProcessor(
+            ObjectProvider<RoomSubscriptionRegistry> roomSubscriptionRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler handler) {
+                    handler.setSubscriptionRegistry(roomSubscriptionRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 8. 구독 상태 gauge
+    @Bean
+    public WebSocketMetrics webSocketMetrics(RoomSubscriptionRegistry roomSubscriptionRegistry) {
+        return new WebSocketMetrics(roomSubscriptionRegistry);
+    }
 }
@@ -1,9 +1,12 @@
 package com.example.chatservice.common.config.interceptor;
 
+import com.example.chatservice.common.websocket.MemberPrincipal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 
@@ -13,6 +16,8 @@ import java.util.Map;
 @Component
 public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
+    public static final String MEMBER_UUID_ATTRIBUTE = "memberUuid";
+
     @Override
     public boolean beforeHandshake(
             ServerHttpRequest request,
@@ -21,6 +26,14 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
             Map<String, Object> attributes
     ) throws Exception {
         log.info(">>> WebSocket Handshake 시작: {}", request.getRemoteAddress());
+
+        // 게이트웨이가 넣어준 회원 UUID 만 세션 principal 로 사용 (MemberHandshakeHandler), 없으면 업그레이드하지 않는다
+        String memberUuid = request.getHeaders().getFirst(MemberPrincipal.MEMBER_UUID_HEADER);
+        if (!StringUtils.hasText(memberUuid)) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(MEMBER_UUID_ATTRIBUTE, memberUuid);
         return true;
     }
 
@@ -0,0 +1,26 @@
+package com.example.chatservice.common.datasource;
+
+/**
+ * 현재 스레드가 처리 중인 요청의 회원 (read-your-writes 라우팅용)
+ * - REST 요청은 X-Member-UUID 헤더로 알 수 있지만, STOMP 메시지 처리 스레드에는 요청이 없으므로
+ *   메시지를 처리하는 동안 세션 principal 의 회원을 여기에 묶어 둔다. (ReadYourWritesChannelInterceptor)
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<String> MEMBER_UUID = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void bind(String memberUuid) {
+        MEMBER_UUID.set(memberUuid);
+    }
+
+    public static String currentMemberUuid() {
+        return MEMBER_UUID.get();
+    }
+
+    public static void clear() {
+        MEMBER_UUID.remove();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.chatservice.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL read replica 설정 (chat.datasource.replica.*)
+ * - replica 의 username/password 를 비우면 spring.datasource 값을 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private int maximumPoolSize = 20;
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.chatservice.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 나머지는 primary 로 보내는 DataSource
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ *   (첫 쿼리 실행 시 커넥션을 가져올 때 경로 결정)
+ * - replica 는 돌아가며 사용하고, 커넥션을 가져오지 못한 replica 는 health check 가 복구를 확인할 때까지 제외한다.
+ *   사용할 수 있는 replica 가 없으면 primary 로 읽는다.
+ * - read-your-writes: 쓰기 트랜잭션을 실행한 회원은 window 동안 읽기도 primary 로 보낸다. (replica 지연 동안 자신이 쓴 내용이 안 보이는 문제)
+ *   쓰기 트랜잭션이 커넥션을 가져올 때 현재 회원을 기록하고, 요청 스레드 밖에서 늦게 반영되는 쓰기(write-behind)는 markWriter 로 직접 기록한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Supplier<String> currentMemberUuid;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration readYourWritesWindow,
+            Supplier<String> currentMemberUuid
+    ) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.currentMemberUuid = currentMemberUuid;
+        this.recentWriters = readYourWritesWindow.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                rememberWriter();
+            }
+            return PRIMARY;
+        }
+        if (wroteRecently()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replicas.get(key).getConnection(username, password);
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    // 제외된 replica 의 복구 확인 (정상인 replica 는 커넥션 획득 실패로 제외되므로 따로 확인하지 않음)
+    @Scheduled(fixedDelayString = "${chat.datasource.replica.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (String key : unhealthyReplicas) {
+            try (Connection connection = replicas.get(key).getConnection()) {
+                if (connection.isValid(1)) {
+                    unhealthyReplicas.remove(key);
+                    log.info(">>> replica 복구: {}", key);
+                }
+            } catch (SQLException e) {
+                log.debug("replica 아직 사용 불가: {}", key, e);
+            }
+        }
+    }
+
+    /**
+     * memberUuid 가 방금 쓴 내용을 window 동안 primary 에서 읽도록 기록한다.
+     */
+    public void markWriter(String memberUuid) {
+        if (recentWriters != null && memberUuid != null) {
+            recentWriters.put(memberUuid, Boolean.TRUE);
+        }
+    }
+
+    public Set<String> getUnhealthyReplicas() {
+        return Set.copyOf(unhealthyReplicas);
+    }
+
+    public void close() {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("replica 종료 실패", e);
+                }
+            }
+        }
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (!unhealthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markUnhealthy(String key, SQLException cause) {
+        if (unhealthyReplicas.add(key)) {
+            log.warn("replica 커넥션 실패로 제외 (복구 전까지 primary 사용): {}", key, cause);
+        }
+    }
+
+    private void rememberWriter() {
+        if (recentWriters != null) {
+            markWriter(currentMemberUuid.get());
+        }
+    }
+
+    private boolean wroteRecently() {
+        String memberUuid = recentWriters == null ? null : currentMemberUuid.get();
+        return memberUuid != null && recentWriters.getIfPresent(memberUuid) != null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.chatservice.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 64bit ID 생성기 (Snowflake 형식)
+ * - [41bit 경과 ms(EPOCH 기준)] [10bit node-id] [12bit ms 내 순번]
+ * - 문자열은 Crockford Base32 고정 13자리라서 문자열 정렬 순서 = 생성 시간 순서 (페이지네이션 tie-breaker 로 사용 가능)
+ * - 락 없이 (ms, 순번) 상태 하나를 CAS 로 갱신한다. 같은 ms 안에서 순번(4096개)을 다 쓰거나 시계가 뒤로 가면
+ *   다음 ms 를 미리 당겨서 쓰므로 기다리거나 중복되지 않는다.
+ * - 노드 간 유일성은 node-id 로 보장하므로 인스턴스가 여러 개이면 chat.id.node-id 를 서로 다르게 지정해야 한다.
+ *   chat.cluster.bus 가 local 이 아닌데(여러 인스턴스) node-id 가 없으면 충돌할 수 있으므로 시작하지 않는다.
+ */
+@Slf4j
+@Component
+public class TimeOrderedIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (EPOCH 기준 ms << SEQUENCE_BITS) | 순번 : 마지막으로 발급한 값
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public TimeOrderedIdGenerator(
+            @Value("${chat.id.node-id:-1}") long nodeId,
+            @Value("${chat.cluster.bus:local}") String clusterBus
+    ) {
+        this(resolveNodeId(nodeId, clusterBus), System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("chat.id.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    private static long resolveNodeId(long nodeId, String clusterBus) {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        if (!"local".equals(clusterBus)) {
+            throw new IllegalStateException(
+                    "chat.cluster.bus=" + clusterBus + " 이면 인스턴스마다 다른 chat.id.node-id(CHAT_ID_NODE_ID)를 지정해야 합니다."
+            );
+        }
+        nodeId = ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1);
+        log.info("chat.id.node-id 가 지정되지 않아 임의의 값({})을 사용합니다. (단일 인스턴스)", nodeId);
+        return nodeId;
+    }
+
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        while (true) {
+            long last = state.get();
+            // 같은 ms(또는 시계가 뒤로 간 경우)면 마지막 값 다음, 아니면 새 ms 의 0번
+            long next = now > last ? now : last + 1;
+            if (state.compareAndSet(last, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public String nextIdString() {
+        return encode(nextId());
+    }
+
+    static String encode(long id) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -51,7 +51,7 @@ public enum BaseResponseStatus {
     FAILED_TO_DELETE_CATEGORY(HttpStatus.INTERNAL_SERVER_ERROR, false, 2103, "카테고리 삭제에 실패하였습니다."),
     CATEGORY_NAME_ALREADY_EXISTS(HttpStatus.CONFLICT, false, 2104, "이미 존재하는 카테고리 이름입니다."),
     INVALID_CATEGORY_NAME(HttpStatus.BAD_REQUEST, false, 2105, "유효하지 않은 카테고리 이름입니다."),
-    DUPLICATE_CATEGORY_LIST(HttpStatus.BAD_REQUEST, false, 2106, "중복된 카테고리 입니다.");
+    DUPLICATE_CATEGORY_LIST(HttpStatus.BAD_REQUEST, false, 2106, "중복된 카테고리 입니다."),
 
     /**
      * 3000 : order service error
@@ -60,6 +60,11 @@ public enum BaseResponseStatus {
     /**
      * 4000 : chat service error
      */
+    CHAT_MESSAGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, false, 4001, "메시지 전송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    FAILED_TO_SAVE_CHAT_MESSAGE(HttpStatus.INTERNAL_SERVER_ERROR, false, 4002, "메시지 저장에 실패하였습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, false, 4003, "유효하지 않은 커서입니다."),
+    INVALID_READ_POSITION(HttpStatus.BAD_REQUEST, false, 4004, "읽은 메시지 위치가 필요합니다."),
+    TOO_MANY_CHAT_ROOMS(HttpStatus.BAD_REQUEST, false, 4005, "한 번에 조회할 수 있는 채팅방 수를 초과하였습니다.");
 
     /**
      * 5000 : notice service error
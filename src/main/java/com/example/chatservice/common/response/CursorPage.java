@@ -4,9 +4,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
@@ -24,9 +24,10 @@ public class CursorPage<T> {
     }
 
     public <U> CursorPage<U> map(Function<? super T, ? extends U> mapper) {
-        List<U> mappedContent = this.content.stream()
-                .map(mapper)
-                .collect(Collectors.toList());
+        List<U> mappedContent = new ArrayList<>(this.content.size());
+        for (T item : this.content) {
+            mappedContent.add(mapper.apply(item));
+        }
         return CursorPage.<U>builder()
                 .content(mappedContent)
                 .hasNext(this.hasNext)
@@ -41,4 +42,22 @@ public class CursorPage<T> {
                 .nextCursor(nextCursor)
                 .build();
     }
+
+    /**
+     * 최신순으로 size + 1 개까지 읽은 결과를 오래된 순 페이지로 변환
+     * - size 개를 넘으면 hasNext 이고, 페이지의 가장 오래된 항목으로 nextCursor 를 만든다.
+     */
+    public static <T> CursorPage<T> ofNewestFirst(
+            List<T> newestFirst, int size, Function<? super T, String> cursorOf
+    ) {
+        boolean hasNext = newestFirst.size() > size;
+        int count = hasNext ? size : newestFirst.size();
+
+        List<T> content = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            content.add(newestFirst.get(i));
+        }
+        String nextCursor = hasNext && count > 0 ? cursorOf.apply(newestFirst.get(count - 1)) : null;
+        return of(content, hasNext, nextCursor);
+    }
 }
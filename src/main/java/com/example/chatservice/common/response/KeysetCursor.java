@@ -0,0 +1,109 @@
+package com.example.chatservice.common.response;
+
+import com.example.chatservice.common.exception.BaseException;
+import org.bson.types.ObjectId;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (시각, id) 복합 키 기반의 불투명(opaque) 커서
+ * - 같은 시각을 가진 데이터가 페이지 경계에서 누락/중복되지 않도록 id 로 순서를 확정한다.
+ * - 인코딩: base64url( [타입 1byte][epochMillis 8byte][id] )
+ *   id 가 ObjectId 형식이면 12byte 로, 그 외 문자열은 UTF-8 로 담는다.
+ * - 기존 클라이언트가 보내던 LocalDateTime 문자열도 (시각, id 없음) 커서로 해석한다.
+ */
+public record KeysetCursor(long epochMillis, String id) {
+
+    private static final byte TYPE_NO_ID = 0;
+    private static final byte TYPE_OBJECT_ID = 1;
+    private static final byte TYPE_STRING_ID = 2;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static KeysetCursor of(LocalDateTime time, String id) {
+        return new KeysetCursor(toEpochMillis(time), id);
+    }
+
+    public LocalDateTime time() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public String encode() {
+        ByteBuffer buffer;
+        if (id == null) {
+            buffer = ByteBuffer.allocate(9).put(TYPE_NO_ID).putLong(epochMillis);
+        } else if (ObjectId.isValid(id)) {
+            buffer = ByteBuffer.allocate(21).put(TYPE_OBJECT_ID).putLong(epochMillis)
+                    .put(new ObjectId(id).toByteArray());
+        } else {
+            byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+            buffer = ByteBuffer.allocate(9 + idBytes.length).put(TYPE_STRING_ID).putLong(epochMillis).put(idBytes);
+        }
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return of(LocalDateTime.parse(cursor), null);
+        } catch (DateTimeParseException ignored) {
+            // opaque 커서
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(cursor));
+            byte type = buffer.get();
+            long epochMillis = buffer.getLong();
+            return switch (type) {
+                case TYPE_NO_ID -> new KeysetCursor(epochMillis, null);
+                case TYPE_OBJECT_ID -> {
+                    byte[] objectId = new byte[12];
+                    buffer.get(objectId);
+                    yield new KeysetCursor(epochMillis, new ObjectId(objectId).toHexString());
+                }
+                case TYPE_STRING_ID -> {
+                    byte[] idBytes = new byte[buffer.remaining()];
+                    buffer.get(idBytes);
+                    yield new KeysetCursor(epochMillis, new String(idBytes, StandardCharsets.UTF_8));
+                }
+                default -> throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+            };
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        }
+    }
+
+    // 저장된 id 타입으로 변환, 형식이 맞지 않으면 조작되었거나 다른 목록의 커서이므로 400
+    public ObjectId objectId() {
+        if (id == null || !ObjectId.isValid(id)) {
+            throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        }
+        return new ObjectId(id);
+    }
+
+    public long longId() {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.chatservice.common.slowquery;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB 느린 command 기록
+ * - 시작 시점에는 조건 부분(filter 등)의 참조만 남기고, 완료 시점에 기준 시간을 넘긴 경우에만 형태를 만들어
+ *   SlowQueryRecorder 로 넘긴다. (대부분의 command 는 형태 문자열을 만들지 않음)
+ * - 드라이버의 command 문서는 전송 버퍼 위에 있어 콜백 밖에서는 보장되지 않으므로, 조건 부분만 clone 해 둔다.
+ *   (버퍼 기반 문서의 clone 은 해당 구간 바이트 복사이며, 파싱은 느린 경우에만 일어난다)
+ * - 조건 형태: 값은 ?, 배열은 첫 원소 형태만 남긴다. ($or 에 채팅방이 여러 개여도 형태 하나로 모이도록)
+ * - hello, ping 같은 관리 command 는 기록하지 않는다.
+ */
+public class SlowMongoCommandListener implements CommandListener {
+
+    private static final Set<String> DATA_COMMANDS = Set.of(
+            "find", "getMore", "aggregate", "count", "distinct", "insert", "update", "delete", "findAndModify"
+    );
+    private static final String[] FILTER_FIELDS = {"filter", "query", "pipeline", "updates", "deletes"};
+    private static final int MAX_SHAPE_LENGTH = 1000;
+
+    private final SlowQueryRecorder slowQueryRecorder;
+    private final Map<Integer, StartedCommand> started = new ConcurrentHashMap<>();
+
+    public SlowMongoCommandListener(SlowQueryRecorder slowQueryRecorder) {
+        this.slowQueryRecorder = slowQueryRecorder;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!DATA_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonDocument command = event.getCommand();
+        BsonValue collection = command.get(event.getCommandName());
+        started.put(event.getRequestId(), new StartedCommand(
+                collection != null && collection.isString() ? collection.asString().getValue() : null,
+                filterOf(command)
+        ));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void complete(int requestId, String commandName, long elapsedNanos) {
+        StartedCommand command = started.remove(requestId);
+        if (command != null && slowQueryRecorder.isSlow(elapsedNanos)) {
+            slowQueryRecorder.recordMongo(commandName, command.collection(), shapeOf(command.filter()), elapsedNanos);
+        }
+    }
+
+    private static BsonValue filterOf(BsonDocument command) {
+        for (String field : FILTER_FIELDS) {
+            BsonValue filter = command.get(field);
+            if (filter instanceof BsonDocument document) {
+                return document.clone();
+            }
+            if (filter instanceof BsonArray array) {
+                return array.clone();
+            }
+            if (filter != null) {
+                return filter;
+            }
+        }
+        return null;
+    }
+
+    private static String shapeOf(BsonValue filter) {
+        if (filter == null) {
+            return "-";
+        }
+        StringBuilder shape = new StringBuilder();
+        appendShape(filter, shape);
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape.toString();
+    }
+
+    private static void appendShape(BsonValue value, StringBuilder shape) {
+        if (shape.length() > MAX_SHAPE_LENGTH) {
+            return;
+        }
+        if (value.isDocument()) {
+            shape.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    shape.append(", ");
+                }
+                first = false;
+                shape.append(entry.getKey()).append(": ");
+                appendShape(entry.getValue(), shape);
+            }
+            shape.append('}');
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            shape.append('[');
+            if (!array.isEmpty()) {
+                appendShape(array.get(0), shape);
+                if (array.size() > 1) {
+                    shape.append(", ...");
+                }
+            }
+            shape.append(']');
+        } else {
+            shape.append('?');
+        }
+    }
+
+    private record StartedCommand(String collection, BsonValue filter) {
+    }
+}
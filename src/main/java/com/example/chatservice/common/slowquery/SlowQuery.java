@@ -0,0 +1,22 @@
+package com.example.chatservice.common.slowquery;
+
+import java.time.Instant;
+
+/**
+ * 기준 시간을 넘긴 쿼리 한 건
+ * - target: MongoDB 컬렉션 또는 SQL 테이블
+ * - shape: 값을 ? 로 바꾼 조건 형태 (같은 형태의 쿼리끼리 모아서 볼 수 있도록)
+ */
+public record SlowQuery(
+        Source source,
+        String operation,
+        String target,
+        String shape,
+        long durationMillis,
+        Instant occurredAt
+) {
+
+    public enum Source {
+        MONGODB, JPA
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.chatservice.common.slowquery;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 최근 느린 쿼리 조회 (/actuator/slowqueries)
+ * - GET: 최신순 목록, DELETE: 비우기
+ */
+@Component
+@ConditionalOnProperty(name = "chat.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @ReadOperation
+    public SlowQueries slowQueries() {
+        return new SlowQueries(
+                slowQueryRecorder.getThresholdMillis(),
+                slowQueryRecorder.getDroppedCount(),
+                slowQueryRecorder.getRecent()
+        );
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryRecorder.clear();
+    }
+
+    public record SlowQueries(long thresholdMillis, long dropped, List<SlowQuery> queries) {
+    }
+}
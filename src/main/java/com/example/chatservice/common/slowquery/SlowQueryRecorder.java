@@ -0,0 +1,177 @@
+package com.example.chatservice.common.slowquery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 느린 쿼리 기록 (MongoDB command listener, JDBC 실행 listener 에서 호출)
+ * - 쿼리 스레드는 기준 시간 비교와 큐 offer 만 한다. 큐가 가득 차면 기다리지 않고 버린다. (dropped 로 집계)
+ * - SQL 정규화, 로그 출력, 최근 기록 보관은 별도 스레드가 처리한다.
+ * - 최근 recent-size 건을 메모리에 보관하고 /actuator/slowqueries 로 조회한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryRecorder {
+
+    private static final int MAX_SHAPE_LENGTH = 1000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LITERAL = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern SQL_TABLE = Pattern.compile("\\b(?:from|into|update)\\s+([\\w.`\"]+)", Pattern.CASE_INSENSITIVE);
+
+    private final long thresholdNanos;
+    private final int recentSize;
+    private final BlockingQueue<SlowQuery> queue;
+    private final Deque<SlowQuery> recent;
+    private final Counter droppedCounter;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    public SlowQueryRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${chat.slow-query.threshold:200ms}") Duration threshold,
+            @Value("${chat.slow-query.recent-size:500}") int recentSize,
+            @Value("${chat.slow-query.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.thresholdNanos = threshold.toNanos();
+        this.recentSize = recentSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.recent = new ArrayDeque<>(recentSize);
+        this.meterRegistry = meterRegistry;
+        this.droppedCounter = Counter.builder("chat.slow-query.dropped")
+                .description("큐가 가득 차서 버린 느린 쿼리 기록 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        drainThread = new Thread(this::runDrain, "chat-slow-query");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        drainThread.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    public void recordMongo(String operation, String collection, String shape, long elapsedNanos) {
+        offer(new SlowQuery(
+                SlowQuery.Source.MONGODB, operation, collection, shape,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Instant.now()
+        ));
+    }
+
+    // 정규화 전 SQL 을 그대로 넘기고, operation/target/shape 은 drain 스레드에서 채운다
+    public void recordSql(String sql, long elapsedNanos) {
+        offer(new SlowQuery(
+                SlowQuery.Source.JPA, null, null, sql,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Instant.now()
+        ));
+    }
+
+    // 최신순
+    public List<SlowQuery> getRecent() {
+        synchronized (recent) {
+            List<SlowQuery> result = new ArrayList<>(recent.size());
+            recent.descendingIterator().forEachRemaining(result::add);
+            return result;
+        }
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    public long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    private void offer(SlowQuery slowQuery) {
+        if (!running || !queue.offer(slowQuery)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void runDrain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                SlowQuery slowQuery = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (slowQuery == null) {
+                    continue;
+                }
+                SlowQuery normalized = slowQuery.source() == SlowQuery.Source.JPA ? normalizeSql(slowQuery) : slowQuery;
+                keep(normalized);
+                meterRegistry.counter(
+                        "chat.slow-query.recorded",
+                        "source", normalized.source().name().toLowerCase(Locale.ROOT),
+                        "target", String.valueOf(normalized.target())
+                ).increment();
+                log.warn("느린 쿼리 {}ms [{} {} {}] {}", normalized.durationMillis(), normalized.source(),
+                        normalized.operation(), normalized.target(), normalized.shape());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("느린 쿼리 기록 실패", e);
+            }
+        }
+    }
+
+    private void keep(SlowQuery slowQuery) {
+        synchronized (recent) {
+            if (recent.size() >= recentSize) {
+                recent.pollFirst();
+            }
+            recent.addLast(slowQuery);
+        }
+    }
+
+    private static SlowQuery normalizeSql(SlowQuery slowQuery) {
+        String sql = WHITESPACE.matcher(slowQuery.shape()).replaceAll(" ").trim();
+        int firstSpace = sql.indexOf(' ');
+        String operation = (firstSpace < 0 ? sql : sql.substring(0, firstSpace)).toLowerCase(Locale.ROOT);
+        Matcher table = SQL_TABLE.matcher(sql);
+        String target = table.find() ? table.group(1).replace("`", "").replace("\"", "") : null;
+        String shape = LITERAL.matcher(sql).replaceAll("?");
+        if (shape.length() > MAX_SHAPE_LENGTH) {
+            shape = shape.substring(0, MAX_SHAPE_LENGTH) + "...";
+        }
+        return new SlowQuery(
+                slowQuery.source(), operation, target, shape, slowQuery.durationMillis(), slowQuery.occurredAt()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.chatservice.common.slowquery;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC (Hibernate) 느린 쿼리 기록
+ * - DataSource 프록시가 실행 시간을 재서 넘겨주고, 기준 시간을 넘긴 경우에만 SQL 을 SlowQueryRecorder 로 넘긴다.
+ * - 배치 실행은 첫 SQL 만 기록 (같은 형태가 반복되므로)
+ */
+public class SlowSqlQueryListener implements QueryExecutionListener {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    public SlowSqlQueryListener(SlowQueryRecorder slowQueryRecorder) {
+        this.slowQueryRecorder = slowQueryRecorder;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        if (queryInfoList.isEmpty() || !slowQueryRecorder.isSlow(elapsedNanos)) {
+            return;
+        }
+        slowQueryRecorder.recordSql(queryInfoList.get(0).getQuery(), elapsedNanos);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.chatservice.common.websocket;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * content-type 이 application/cbor 인 STOMP 프레임을 바이너리 WebSocket 메시지로 전송하는 세션
+ * - StompSubProtocolHandler 는 octet-stream 이 아니면 TextMessage 로 보내므로, 텍스트 프레임으로 나가면
+ *   UTF-8 이 아닌 CBOR 바이트가 클라이언트에서 깨진다.
+ * - TextMessage(byte[]) 는 원본 바이트를 그대로 들고 있으므로 asBytes() 로 재인코딩 없이 옮긴다.
+ */
+class CborBinaryFrameSession extends WebSocketSessionDecorator {
+
+    private static final byte[] CBOR_CONTENT_TYPE = ("content-type:" + StompFrameEncoding.CBOR.getMimeType())
+            .getBytes(StandardCharsets.UTF_8);
+
+    CborBinaryFrameSession(WebSocketSession delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (message instanceof TextMessage text) {
+            byte[] frame = text.asBytes();
+            if (hasCborContentType(frame)) {
+                super.sendMessage(new BinaryMessage(frame));
+                return;
+            }
+        }
+        super.sendMessage(message);
+    }
+
+    // 헤더 구간(첫 빈 줄 전)에서만 content-type 을 찾는다
+    static boolean hasCborContentType(byte[] frame) {
+        for (int i = 0; i < frame.length; i++) {
+            if (frame[i] == '\n' && i + 1 < frame.length && frame[i + 1] == '\n') {
+                return false;
+            }
+            if (frame[i] == '\n' && startsWith(frame, i + 1, CBOR_CONTENT_TYPE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(byte[] frame, int offset, byte[] prefix) {
+        if (frame.length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (frame[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
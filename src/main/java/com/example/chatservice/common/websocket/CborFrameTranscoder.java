@@ -0,0 +1,94 @@
+package com.example.chatservice.common.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * CBOR 를 고른 세션으로 나가는 MESSAGE 프레임의 JSON 본문을 CBOR 로 변환 (clientOutboundChannel)
+ * - 브로커는 구독자마다 같은 payload 배열을 공유하므로, 배열 identity 기준 캐시로 메시지당 한 번만 변환한다.
+ *   (weakKeys 는 identity 비교이며 전송이 끝난 payload 는 GC 대상)
+ * - 토큰 단위 스트리밍 복사라 객체로 다시 역직렬화하지 않는다.
+ * - 변환된 프레임은 CborBinaryFrameSession 을 거쳐 바이너리 메시지로 나간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CborFrameTranscoder implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final StompEncodingNegotiator stompEncodingNegotiator;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final Cache<byte[], byte[]> transcoded = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(10_000)
+            .build();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || !(message.getPayload() instanceof byte[] json)) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null || stompEncodingNegotiator.encodingOf(sessionId) != StompFrameEncoding.CBOR) {
+            return message;
+        }
+        MimeType contentType = headers.get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+        if (contentType == null || !MimeTypeUtils.APPLICATION_JSON.equalsTypeAndSubtype(contentType)) {
+            return message;
+        }
+
+        return MessageBuilder.withPayload(transcoded.get(json, this::toCbor))
+                .copyHeaders(headers)
+                .setHeader(MessageHeaders.CONTENT_TYPE, StompFrameEncoding.CBOR.getMimeType())
+                .build();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new CborBinaryFrameSession(session));
+            }
+        };
+    }
+
+    private byte[] toCbor(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonFactory.createParser(json);
+             CBORGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR 변환 실패", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.chatservice.common.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 채널 하나의 처리 대기 깊이 (chat.websocket.channel.queue.depth{channel=inbound|outbound})
+ * - 채널에 들어와서(preSend) 처리가 끝날 때(afterMessageHandled)까지의 작업 수 (대기 + 처리 중)
+ * - 메시지 하나는 채널을 구독한 핸들러 수만큼 실행기 작업이 되므로 구독자 수 단위로 센다.
+ *   (inbound 는 @MessageMapping, 브로커, user destination 핸들러 3개)
+ * - 실행기 종류(스레드 풀, 가상 스레드)와 상관없이 같은 기준으로 측정
+ */
+public class ChannelQueueDepthInterceptor implements ExecutorChannelInterceptor {
+
+    private final AtomicInteger depth = new AtomicInteger();
+
+    public ChannelQueueDepthInterceptor(MeterRegistry meterRegistry, String channel) {
+        Gauge.builder("chat.websocket.channel.queue.depth", depth, AtomicInteger::get)
+                .description("STOMP 채널에서 처리를 기다리거나 처리 중인 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        depth.addAndGet(tasksOf(channel));
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // 실행기에 넘기지 못한 메시지 (afterMessageHandled 가 호출되지 않음)
+        if (!sent) {
+            depth.addAndGet(-tasksOf(channel));
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        depth.decrementAndGet();
+    }
+
+    private static int tasksOf(MessageChannel channel) {
+        return channel instanceof ExecutorSubscribableChannel executorChannel
+                ? executorChannel.getSubscribers().size()
+                : 1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.chatservice.common.websocket;
+
+import com.example.chatservice.common.exception.BaseException;
+import com.example.chatservice.common.response.BaseResponseStatus;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 시 세션 principal 확인 (clientInboundChannel)
+ * - 회원은 게이트웨이가 붙인 핸드셰이크 X-Member-UUID 헤더로만 지정된다. (MemberHandshakeHandler)
+ * - CONNECT 프레임 헤더는 클라이언트가 마음대로 넣을 수 있으므로 쓰지 않고, principal 이 없으면 연결을 거부한다.
+ * - 이후 프레임은 헤더 없이 principal 로 회원을 식별
+ */
+@Component
+public class MemberConnectInterceptor implements ChannelInterceptor {
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null
+                || (accessor.getCommand() != StompCommand.CONNECT && accessor.getCommand() != StompCommand.STOMP)) {
+            return message;
+        }
+
+        if (!(accessor.getUser() instanceof MemberPrincipal)) {
+            throw new BaseException(BaseResponseStatus.NO_SIGN_IN);
+        }
+        return message;
+    }
+}
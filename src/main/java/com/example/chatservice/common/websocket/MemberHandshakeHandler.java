@@ -0,0 +1,27 @@
+package com.example.chatservice.common.websocket;
+
+import com.example.chatservice.common.config.interceptor.WebSocketHandshakeInterceptor;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * 핸드셰이크에서 확인한 회원 UUID 를 세션 principal 로 지정
+ * - 회원을 지정할 수 있는 유일한 경로이며, principal 이 없는 세션의 CONNECT 는 거부된다. (MemberConnectInterceptor)
+ */
+public class MemberHandshakeHandler extends DefaultHandshakeHandler {
+
+    @Override
+    protected Principal determineUser(
+            ServerHttpRequest request, WebSocketHandler wsHandler, Map<String, Object> attributes
+    ) {
+        Object memberUuid = attributes.get(WebSocketHandshakeInterceptor.MEMBER_UUID_ATTRIBUTE);
+        if (memberUuid instanceof String uuid) {
+            return new MemberPrincipal(uuid);
+        }
+        return super.determineUser(request, wsHandler, attributes);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.chatservice.common.websocket;
+
+import java.security.Principal;
+
+/**
+ * WebSocket 세션에 묶인 회원 (name = memberUuid)
+ * - /user/{memberUuid}/... destination 이 이 이름으로 세션을 찾는다.
+ */
+public record MemberPrincipal(String memberUuid) implements Principal {
+
+    public static final String MEMBER_UUID_HEADER = "X-Member-UUID";
+
+    @Override
+    public String getName() {
+        return memberUuid;
+    }
+}
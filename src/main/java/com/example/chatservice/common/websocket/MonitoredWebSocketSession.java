@@ -0,0 +1,47 @@
+package com.example.chatservice.common.websocket;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+
+/**
+ * 실제 소켓 쓰기 구간을 기록하는 세션 (Spring 의 ConcurrentWebSocketSessionDecorator 안쪽에 위치)
+ * - 종료 표시(terminate)가 되면 다음 쓰기에서 SessionLimitExceededException 을 던져,
+ *   Spring 이 바깥 decorator 세션을 자신의 전송 잠금 아래에서 정리하고 닫게 한다. (안쪽 세션을 직접 닫지 않음)
+ */
+class MonitoredWebSocketSession extends WebSocketSessionDecorator {
+
+    private volatile long writeStartedNanos;
+    private volatile boolean terminating;
+
+    MonitoredWebSocketSession(WebSocketSession delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (terminating) {
+            throw new SessionLimitExceededException("outbound 대기열 한도 초과", CloseStatus.SESSION_NOT_RELIABLE);
+        }
+        writeStartedNanos = System.nanoTime();
+        try {
+            super.sendMessage(message);
+        } finally {
+            writeStartedNanos = 0L;
+        }
+    }
+
+    void terminate() {
+        terminating = true;
+    }
+
+    // 현재 진행 중인 쓰기가 있으면 경과 시간, 없으면 0
+    long currentWriteNanos(long now) {
+        long startedAt = writeStartedNanos;
+        return startedAt == 0L ? 0L : now - startedAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.chatservice.common.websocket;
+
+/**
+ * 세션의 outbound 대기열이 한도를 넘었을 때의 처리 방식
+ */
+public enum OutboundOverflowStrategy {
+
+    // 세션을 끊는다 (클라이언트가 재접속 후 커서로 다시 조회)
+    TERMINATE,
+
+    // 세션은 유지하고 한도를 넘는 동안의 메시지는 버린다
+    DROP
+}
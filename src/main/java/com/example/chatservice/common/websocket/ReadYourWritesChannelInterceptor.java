@@ -0,0 +1,30 @@
+package com.example.chatservice.common.websocket;
+
+import com.example.chatservice.common.datasource.ReadYourWritesContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 메시지를 처리하는 동안 세션 회원을 ReadYourWritesContext 에 묶는다. (clientInboundChannel)
+ * - 메시지 처리 중 쓰기 트랜잭션이 실행되면 ReplicaRoutingDataSource 가 이 회원을 최근 쓰기 회원으로 기록한다.
+ */
+@Component
+public class ReadYourWritesChannelInterceptor implements ExecutorChannelInterceptor {
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (SimpMessageHeaderAccessor.getUser(message.getHeaders()) instanceof MemberPrincipal principal) {
+            ReadYourWritesContext.bind(principal.memberUuid());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        ReadYourWritesContext.clear();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.chatservice.common.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅방처럼 정확히 일치하는 destination 이 대부분인 환경용 구독 레지스트리
+ * - destination -> (sessionId -> subscriptionId 목록) 해시 인덱스로 발행 시 O(1) 조회
+ * - destination 별 구독 목록은 변경 시마다 새로 만드는 불변 스냅샷이라 조회 쪽은 락도 복사도 없다.
+ *   (1:1 채팅방은 구독자가 몇 명뿐이라 변경 비용이 작음)
+ * - 세션별 역인덱스(subscriptionId -> destination)로 연결 종료 시 해당 세션의 구독만 정리한다.
+ * - 정확 일치 구독 수, destination 수, 세션 수는 WebSocketMetrics 가 gauge 로 노출한다.
+ * - 패턴(/topic/*) 또는 selector 헤더가 있는 구독은 기본 레지스트리에 맡기고,
+ *   그런 구독이 하나도 없으면 발행 시 기본 레지스트리는 조회하지 않는다.
+ */
+public class RoomSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final String SELECTOR_HEADER = "selector";
+    private static final MultiValueMap<String, String> NO_SUBSCRIPTIONS =
+            CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final DefaultSubscriptionRegistry patternRegistry = new DefaultSubscriptionRegistry();
+    private final Set<String> patternSessions = ConcurrentHashMap.newKeySet();
+
+    private final ConcurrentMap<String, MultiValueMap<String, String>> destinations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    @Override
+    protected void addSubscriptionInternal(
+            String sessionId, String subscriptionId, String destination, Message<?> message
+    ) {
+        if (!isExactMatch(destination, message)) {
+            patternSessions.add(sessionId);
+            patternRegistry.registerSubscription(message);
+            return;
+        }
+
+        Map<String, String> subscriptions = sessions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>());
+        if (subscriptions.put(subscriptionId, destination) == null) {
+            subscriptionCount.incrementAndGet();
+        }
+        destinations.compute(destination, (key, current) -> {
+            MultiValueMap<String, String> next = copyOf(current);
+            next.add(sessionId, subscriptionId);
+            return CollectionUtils.unmodifiableMultiValueMap(next);
+        });
+        // 구독 처리 도중 연결이 끊겨 세션이 이미 정리된 경우
+        if (sessions.get(sessionId) != subscriptions) {
+            if (subscriptions.remove(subscriptionId) != null) {
+                subscriptionCount.decrementAndGet();
+            }
+            removeFromDestination(destination, sessionId, subscriptionId);
+        }
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination != null) {
+            subscriptionCount.decrementAndGet();
+            removeFromDestination(destination, sessionId, subscriptionId);
+        } else if (patternSessions.contains(sessionId)) {
+            patternRegistry.unregisterSubscription(message);
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            // 구독 처리 중인 스레드와 겹쳐도 remove 에 성공한 쪽만 정리한다
+            for (String subscriptionId : subscriptions.keySet()) {
+                String destination = subscriptions.remove(subscriptionId);
+                if (destination != null) {
+                    subscriptionCount.decrementAndGet();
+                    removeFromDestination(destination, sessionId, subscriptionId);
+                }
+            }
+        }
+        if (patternSessions.remove(sessionId)) {
+            patternRegistry.unregisterAllSubscriptions(sessionId);
+        }
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        MultiValueMap<String, String> exact = destinations.getOrDefault(destination, NO_SUBSCRIPTIONS);
+        if (patternSessions.isEmpty()) {
+            return exact;
+        }
+
+        MultiValueMap<String, String> patterned = patternRegistry.findSubscriptions(message);
+        if (patterned.isEmpty()) {
+            return exact;
+        }
+        MultiValueMap<String, String> merged = new LinkedMultiValueMap<>(patterned);
+        exact.forEach(merged::addAll);
+        return merged;
+    }
+
+    public int getDestinationCount() {
+        return destinations.size();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    private void removeFromDestination(String destination, String sessionId, String subscriptionId) {
+        destinations.computeIfPresent(destination, (key, current) -> {
+            MultiValueMap<String, String> next = copyOf(current);
+            List<String> subscriptionIds = next.get(sessionId);
+            if (subscriptionIds != null && subscriptionIds.remove(subscriptionId) && subscriptionIds.isEmpty()) {
+                next.remove(sessionId);
+            }
+            return next.isEmpty() ? null : CollectionUtils.unmodifiableMultiValueMap(next);
+        });
+    }
+
+    private boolean isExactMatch(String destination, Message<?> message) {
+        return !pathMatcher.isPattern(destination)
+                && SimpMessageHeaderAccessor.getFirstNativeHeader(SELECTOR_HEADER, message.getHeaders()) == null;
+    }
+
+    private static MultiValueMap<String, String> copyOf(MultiValueMap<String, String> current) {
+        MultiValueMap<String, String> copy = new LinkedMultiValueMap<>();
+        if (current != null) {
+            current.forEach((sessionId, subscriptionIds) -> copy.put(sessionId, new ArrayList<>(subscriptionIds)));
+        }
+        return copy;
+    }
+}
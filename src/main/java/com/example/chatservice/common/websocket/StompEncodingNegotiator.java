@@ -0,0 +1,46 @@
+package com.example.chatservice.common.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP CONNECT 시 세션별 프레임 인코딩 협상 (clientInboundChannel)
+ * - JSON 이 아닌 인코딩을 고른 세션만 기록한다. 연결 종료 시 Spring 이 보내는 DISCONNECT 로 정리
+ */
+@Component
+public class StompEncodingNegotiator implements ChannelInterceptor {
+
+    private final Map<String, StompFrameEncoding> encodings = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT || accessor.getCommand() == StompCommand.STOMP) {
+            StompFrameEncoding encoding = StompFrameEncoding.fromHeader(
+                    accessor.getFirstNativeHeader(StompFrameEncoding.ACCEPT_HEADER)
+            );
+            if (encoding != StompFrameEncoding.JSON) {
+                encodings.put(accessor.getSessionId(), encoding);
+            }
+        } else if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            encodings.remove(accessor.getSessionId());
+        }
+        return message;
+    }
+
+    public StompFrameEncoding encodingOf(String sessionId) {
+        return encodings.getOrDefault(sessionId, StompFrameEncoding.JSON);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.chatservice.common.websocket;
+
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+
+/**
+ * 클라이언트가 STOMP CONNECT 시 accept-content-type 헤더로 고르는 MESSAGE 프레임 본문 인코딩
+ */
+public enum StompFrameEncoding {
+
+    JSON(new MimeType("application", "json")),
+    CBOR(new MimeType("application", "cbor"));
+
+    public static final String ACCEPT_HEADER = "accept-content-type";
+
+    private final MimeType mimeType;
+
+    StompFrameEncoding(MimeType mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public MimeType getMimeType() {
+        return mimeType;
+    }
+
+    // 모르는 값이거나 헤더가 없으면 JSON
+    public static StompFrameEncoding fromHeader(String accept) {
+        if (accept != null) {
+            for (String candidate : accept.split(",")) {
+                MimeType mimeType;
+                try {
+                    mimeType = MimeType.valueOf(candidate.trim());
+                } catch (InvalidMimeTypeException e) {
+                    continue;
+                }
+                for (StompFrameEncoding encoding : values()) {
+                    if (encoding.mimeType.equalsTypeAndSubtype(mimeType)) {
+                        return encoding;
+                    }
+                }
+            }
+        }
+        return JSON;
+    }
+}
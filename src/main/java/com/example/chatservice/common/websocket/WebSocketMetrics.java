@@ -0,0 +1,34 @@
+package com.example.chatservice.common.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * simple broker 구독 상태 gauge
+ * - chat.websocket.subscriptions : 정확 일치 destination 구독 수
+ * - chat.websocket.destinations : 구독자가 있는 destination 수
+ * - chat.websocket.subscribed.sessions : 구독이 하나 이상 있는 세션 수
+ * (연결된 세션 수는 WebSocketSessionMonitor 의 chat.websocket.sessions)
+ */
+public class WebSocketMetrics implements MeterBinder {
+
+    private final RoomSubscriptionRegistry subscriptions;
+
+    public WebSocketMetrics(RoomSubscriptionRegistry subscriptionRegistry) {
+        this.subscriptions = subscriptionRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("chat.websocket.subscriptions", subscriptions, RoomSubscriptionRegistry::getSubscriptionCount)
+                .description("정확 일치 destination 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.destinations", subscriptions, RoomSubscriptionRegistry::getDestinationCount)
+                .description("구독자가 있는 destination 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.subscribed.sessions", subscriptions, RoomSubscriptionRegistry::getSessionCount)
+                .description("구독이 하나 이상 있는 세션 수")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.chatservice.common.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션별 outbound 대기열 감시
+ * - 대기열 깊이: clientOutboundChannel 에 들어와서(preSend) 처리가 끝날 때(afterMessageHandled)까지의 메시지 수
+ *   (Spring 세션 버퍼에 쌓인 바이트는 send-buffer-size-limit 로 따로 제한됨)
+ * - 대기열이 max-queued-messages 이상이거나 소켓 쓰기 하나가 send-time-limit 를 넘기고 있으면
+ *   overflow-strategy 에 따라 세션을 끊거나(TERMINATE) 그동안의 MESSAGE 프레임을 버린다(DROP).
+ *   TERMINATE 는 세션에 종료 표시만 하고, 다음 프레임을 쓰는 시점에 Spring 이 바깥 세션(ConcurrentWebSocketSessionDecorator)을
+ *   한도 초과로 닫는다. (진행 중인 쓰기와 겹쳐서 안쪽 세션을 닫지 않도록)
+ * - 느린 클라이언트 하나가 outbound 스레드를 오래 붙잡기 전에 걸러내는 것이 목적
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMonitor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final ConcurrentMap<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    private final OutboundOverflowStrategy overflowStrategy;
+    private final int maxQueuedMessages;
+    private final long sendTimeLimitNanos;
+
+    private final DistributionSummary queueDepthSummary;
+    private final Counter droppedMessageCounter;
+    private final Counter terminatedByPolicyCounter;
+    private final Counter terminatedBySendLimitCounter;
+
+    public WebSocketSessionMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${chat.websocket.outbound.overflow-strategy:terminate}") OutboundOverflowStrategy overflowStrategy,
+            @Value("${chat.websocket.outbound.max-queued-messages:1000}") int maxQueuedMessages,
+            @Value("${chat.websocket.send-time-limit:10s}") Duration sendTimeLimit
+    ) {
+        this.overflowStrategy = overflowStrategy;
+        this.maxQueuedMessages = maxQueuedMessages;
+        this.sendTimeLimitNanos = sendTimeLimit.toNanos();
+
+        Gauge.builder("chat.websocket.sessions", sessions, ConcurrentMap::size)
+                .description("현재 연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.outbound.queue.depth.max", this, WebSocketSessionMonitor::maxQueueDepth)
+                .description("세션별 outbound 대기열 깊이 중 최댓값")
+                .register(meterRegistry);
+        this.queueDepthSummary = DistributionSummary.builder("chat.websocket.outbound.queue.depth")
+                .description("메시지가 들어올 때의 세션별 outbound 대기열 깊이")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedMessageCounter = Counter.builder("chat.websocket.outbound.dropped")
+                .description("DROP 정책으로 버려진 메시지 수")
+                .register(meterRegistry);
+        this.terminatedByPolicyCounter = Counter.builder("chat.websocket.sessions.dropped")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.terminatedBySendLimitCounter = Counter.builder("chat.websocket.sessions.dropped")
+                .tag("reason", "send-limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                MonitoredWebSocketSession monitored = new MonitoredWebSocketSession(session);
+                sessions.put(session.getId(), new SessionState(monitored));
+                super.afterConnectionEstablished(monitored);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                // Spring 의 send-time/buffer-size 한도 초과로 끊긴 경우
+                if (state != null && !state.terminatedByPolicy
+                        && CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    terminatedBySendLimitCounter.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SessionState state = stateOf(message);
+        if (state == null) {
+            return message;
+        }
+
+        int depth = state.queued.incrementAndGet();
+        queueDepthSummary.record(depth);
+        if (!isOverLimit(state, depth)) {
+            return message;
+        }
+
+        if (overflowStrategy == OutboundOverflowStrategy.TERMINATE) {
+            terminate(state);
+            return message; // 이 프레임을 쓰려는 시점에 세션이 닫힌다
+        }
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message; // CONNECTED, RECEIPT, ERROR, heartbeat 는 버리지 않음
+        }
+        droppedMessageCounter.increment();
+        state.queued.decrementAndGet();
+        return null;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // executor 에 넘기지 못한 경우 (거절 등)
+        if (!sent) {
+            release(message);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    private boolean isOverLimit(SessionState state, int depth) {
+        return depth > maxQueuedMessages
+                || state.session.currentWriteNanos(System.nanoTime()) > sendTimeLimitNanos;
+    }
+
+    private void terminate(SessionState state) {
+        if (state.terminatedByPolicy) {
+            return;
+        }
+        state.terminatedByPolicy = true;
+        terminatedByPolicyCounter.increment();
+        log.warn("outbound 대기열 한도 초과로 세션 종료: {} (대기 {}건)", state.session.getId(), state.queued.get());
+        state.session.terminate();
+    }
+
+    private void release(Message<?> message) {
+        SessionState state = stateOf(message);
+        if (state != null) {
+            state.queued.decrementAndGet();
+        }
+    }
+
+    private SessionState stateOf(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessions.get(sessionId) : null;
+    }
+
+    private double maxQueueDepth() {
+        int max = 0;
+        for (SessionState state : sessions.values()) {
+            max = Math.max(max, state.queued.get());
+        }
+        return max;
+    }
+
+    private static class SessionState {
+        private final MonitoredWebSocketSession session;
+        private final AtomicInteger queued = new AtomicInteger();
+        private volatile boolean terminatedByPolicy;
+
+        private SessionState(MonitoredWebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
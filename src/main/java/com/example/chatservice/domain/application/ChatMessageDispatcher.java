@@ -0,0 +1,78 @@
+package com.example.chatservice.domain.application;
+
+import com.example.chatservice.common.cluster.ClusterFanout;
+import com.example.chatservice.domain.dto.out.ChatMessageReceiptResDto;
+import com.example.chatservice.domain.dto.out.ChatReadStatusResDto;
+import com.example.chatservice.domain.dto.out.ChatRoomUpdatedResDto;
+import com.example.chatservice.domain.dto.out.SendChatMessageResDto;
+import com.example.chatservice.domain.infrastructure.cache.ChatRoomCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 이벤트 전달
+ * - 참여자의 user destination(/user/queue/...)으로 보내므로 클라이언트는 열린 채팅방 수와 상관없이
+ *   회원당 구독 몇 개로 모든 채팅방의 이벤트를 받고, 같은 회원의 모든 기기에 전달된다.
+ * - legacy-room-destination 이 true 이면 기존 채팅방 destination(/queue/messages/{chatRoomUuid} 등)으로도 보낸다.
+ *   (클라이언트가 모두 user destination 으로 옮긴 뒤 false 로 변경)
+ */
+@Component
+public class ChatMessageDispatcher {
+
+    private static final String MESSAGE_DESTINATION = "/queue/messages";
+    private static final String RECEIPT_DESTINATION = "/queue/receipts";
+    private static final String READ_DESTINATION = "/queue/read";
+    private static final String ROOM_DESTINATION = "/queue/rooms";
+
+    private final ClusterFanout clusterFanout;
+    private final ChatRoomCache chatRoomCache;
+    private final boolean legacyRoomDestination;
+
+    public ChatMessageDispatcher(
+            ClusterFanout clusterFanout,
+            ChatRoomCache chatRoomCache,
+            @Value("${chat.delivery.legacy-room-destination:true}") boolean legacyRoomDestination
+    ) {
+        this.clusterFanout = clusterFanout;
+        this.chatRoomCache = chatRoomCache;
+        this.legacyRoomDestination = legacyRoomDestination;
+    }
+
+    public void dispatchMessage(SendChatMessageResDto message) {
+        String chatRoomUuid = message.getChatRoomUuid();
+        clusterFanout.sendToUser(chatRoomUuid, message.getReceiverUuid(), MESSAGE_DESTINATION, message);
+        clusterFanout.sendToUser(chatRoomUuid, message.getSenderUuid(), MESSAGE_DESTINATION, message);
+        if (legacyRoomDestination) {
+            clusterFanout.broadcast(chatRoomUuid, MESSAGE_DESTINATION + "/" + chatRoomUuid, message);
+        }
+    }
+
+    // 재전송에 대한 응답: 최초 메시지를 보낸 사람의 기기에만 다시 전달 (상대방은 이미 받았음)
+    public void dispatchReplay(SendChatMessageResDto message) {
+        clusterFanout.sendToUser(message.getChatRoomUuid(), message.getSenderUuid(), MESSAGE_DESTINATION, message);
+    }
+
+    public void dispatchReceipt(ChatMessageReceiptResDto receipt, String senderUuid) {
+        clusterFanout.sendToUser(receipt.getChatRoomUuid(), senderUuid, RECEIPT_DESTINATION, receipt);
+        if (legacyRoomDestination) {
+            clusterFanout.broadcast(receipt.getChatRoomUuid(), RECEIPT_DESTINATION + "/" + senderUuid, receipt);
+        }
+    }
+
+    public void dispatchReadStatus(ChatReadStatusResDto status) {
+        String chatRoomUuid = status.getChatRoomUuid();
+        // 읽은 사람의 다른 기기(안 읽은 표시 정리)와 상대방(읽음 표시) 모두에게 전달
+        clusterFanout.sendToUser(chatRoomUuid, status.getReaderUuid(), READ_DESTINATION, status);
+        chatRoomCache.get(chatRoomUuid)
+                .map(room -> room.opponentOf(status.getReaderUuid()))
+                .ifPresent(opponentUuid -> clusterFanout.sendToUser(chatRoomUuid, opponentUuid, READ_DESTINATION, status));
+        if (legacyRoomDestination) {
+            clusterFanout.broadcast(chatRoomUuid, READ_DESTINATION + "/" + chatRoomUuid, status);
+        }
+    }
+
+    // 채팅방 목록 변경은 user destination 으로만 전송 (기존 클라이언트는 목록 API 를 폴링)
+    public void dispatchRoomUpdated(String memberUuid, ChatRoomUpdatedResDto update) {
+        clusterFanout.sendToUser(update.getChatRoomUuid(), memberUuid, ROOM_DESTINATION, update);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.chatservice.domain.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전송 단계별 소요 시간 (chat.message.send.stage{stage=...}, chat.message.send)
+ * - Timer 는 기동 시 미리 만들어 두고 System.nanoTime 차이만 기록하므로 전송마다 객체를 만들지 않는다.
+ * - group-commit 모드에서 persist 는 큐에 넣는 시간이고, 실제 insertMany 는 chat.message.group-commit.commit 으로 본다.
+ */
+@Component
+public class ChatMessageSendMetrics {
+
+    public enum Stage {
+        PREPARE("prepare"),               // ID, 순번 발급, 중복 전송 확인
+        PERSIST("persist"),               // chat_message 저장
+        CACHE("cache"),                   // 최근 메시지/채팅방 캐시, 마지막 메시지 write-behind 등록
+        UNREAD_COUNTER("unread-counter"), // 안 읽은 메시지 카운터 증가
+        DISPATCH("dispatch");             // 참여자 전달, 다른 인스턴스 알림
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer totalTimer;
+
+    public ChatMessageSendMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("chat.message.send.stage")
+                    .description("메시지 전송 단계별 소요 시간")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.totalTimer = Timer.builder("chat.message.send")
+                .description("sendMessage 전체 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * startNanos 부터 지금까지를 stage 에 기록하고, 다음 단계의 시작 시각으로 쓸 현재 시각을 돌려준다.
+     */
+    public long record(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimers.get(stage).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void recordTotal(long startNanos) {
+        totalTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
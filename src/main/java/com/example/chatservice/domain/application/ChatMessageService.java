@@ -1,9 +1,12 @@
 package com.example.chatservice.domain.application;
 
+import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
 import com.example.chatservice.domain.dto.in.SendChatMessageReqDto;
 import com.example.chatservice.domain.dto.out.SendChatMessageResDto;
 
 public interface ChatMessageService {
 
     SendChatMessageResDto sendMessage(SendChatMessageReqDto dto);
+
+    void readMessages(MarkMessageAsReadReqDto dto);
 }
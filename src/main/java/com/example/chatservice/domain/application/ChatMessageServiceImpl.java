@@ -1,32 +1,233 @@
 package com.example.chatservice.domain.application;
 
+import com.example.chatservice.common.cluster.ClusterFanout;
+import com.example.chatservice.common.exception.BaseException;
+import com.example.chatservice.common.id.TimeOrderedIdGenerator;
+import com.example.chatservice.common.response.BaseResponseStatus;
+import com.example.chatservice.domain.application.ChatMessageSendMetrics.Stage;
+import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
 import com.example.chatservice.domain.dto.in.SendChatMessageReqDto;
+import com.example.chatservice.domain.dto.out.ChatMessageReceiptResDto;
+import com.example.chatservice.domain.dto.out.ChatRoomUpdatedResDto;
 import com.example.chatservice.domain.dto.out.SendChatMessageResDto;
+import com.example.chatservice.domain.entiy.ChatMessage;
 import com.example.chatservice.domain.infrastructure.ChatMessageRepository;
-import com.example.chatservice.domain.infrastructure.ChatRoomRepository;
+import com.example.chatservice.domain.infrastructure.ChatMessageWriter;
+import com.example.chatservice.domain.infrastructure.ChatRoomLastMessageWriteBuffer;
+import com.example.chatservice.domain.infrastructure.ChatRoomSequenceAllocator;
+import com.example.chatservice.domain.infrastructure.ChatUnreadCounterRepository;
+import com.example.chatservice.domain.infrastructure.cache.ChatCacheClusterEventListener;
+import com.example.chatservice.domain.infrastructure.cache.ChatMessageDedupeCache;
+import com.example.chatservice.domain.infrastructure.cache.ChatMessageTailCache;
+import com.example.chatservice.domain.infrastructure.cache.ChatRoomCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ChatMessageServiceImpl implements ChatMessageService {
 
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatRoomSequenceAllocator chatRoomSequenceAllocator;
+    private final ChatRoomLastMessageWriteBuffer chatRoomLastMessageWriteBuffer;
+    private final ChatRoomCache chatRoomCache;
+    private final ChatMessageTailCache chatMessageTailCache;
+    private final ChatUnreadCounterRepository chatUnreadCounterRepository;
+    private final ClusterFanout clusterFanout;
+    private final ChatReadAggregator chatReadAggregator;
+    private final ChatMessageDispatcher chatMessageDispatcher;
+    private final ChatMessageDedupeCache chatMessageDedupeCache;
     private final ChatMessageRepository chatMessageRepository;
-    private final ChatRoomRepository chatRoomRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ChatMessageSendMetrics chatMessageSendMetrics;
 
     @Override
     public SendChatMessageResDto sendMessage(SendChatMessageReqDto dto) {
-        SendChatMessageResDto result = SendChatMessageResDto.from(chatMessageRepository.save(dto.toEntity()));
-        chatRoomRepository.findByChatRoomUuid(dto.getChatRoomUuid())
-                .ifPresent(room -> {
-                    room.updateLastMessage(dto.getContent(), dto.getSentAt());
-                    chatRoomRepository.save(room);
-                });
-        simpMessagingTemplate.convertAndSend("/queue/messages/" + dto.getChatRoomUuid(), dto);
+        long start = System.nanoTime();
+        try {
+            return send(dto, start);
+        } finally {
+            chatMessageSendMetrics.recordTotal(start);
+        }
+    }
+
+    private SendChatMessageResDto send(SendChatMessageReqDto dto, long start) {
+        // 같은 clientMessageId 의 재전송이면 id, 순번 발급과 저장, 브로드캐스트 없이 최초 결과를 보낸 사람에게 다시 전달
+        if (dto.getClientMessageId() != null) {
+            Optional<CompletableFuture<SendChatMessageResDto>> original = chatMessageDedupeCache.reserve(
+                    dto.getSenderUuid(), dto.getClientMessageId()
+            );
+            if (original.isPresent()) {
+                SendChatMessageResDto replay = awaitOriginal(original.get());
+                chatMessageDispatcher.dispatchReplay(replay);
+                return replay;
+            }
+        }
+
+        ChatMessage chatMessage;
+        try {
+            chatMessage = dto.toEntity(timeOrderedIdGenerator.nextIdString());
+            // 브로드캐스트가 저장보다 먼저일 수 있으므로(group-commit) 순번은 저장 전에 발급
+            chatMessage.assignSeq(chatRoomSequenceAllocator.next(chatMessage.getChatRoomUuid()));
+        } catch (RuntimeException e) {
+            forgetClientMessageId(dto);
+            throw e;
+        }
+        SendChatMessageResDto result = SendChatMessageResDto.from(chatMessage);
+        if (dto.getClientMessageId() != null) {
+            chatMessageDedupeCache.complete(dto.getSenderUuid(), dto.getClientMessageId(), result);
+        }
+        long stageStart = chatMessageSendMetrics.record(Stage.PREPARE, start);
+
+        CompletableFuture<ChatMessage> persisted;
+        try {
+            persisted = chatMessageWriter.write(chatMessage);
+        } catch (DuplicateKeyException e) {
+            releaseSeq(chatMessage);
+            return replayFromStore(dto, e);
+        } catch (RuntimeException e) {
+            // 큐가 가득 찬 경우, 일시적인 DB 오류 등: 재전송이 다시 처리되도록 clientMessageId 를 잊는다
+            releaseSeq(chatMessage);
+            failToSave(dto, chatMessage, e);
+            throw e;
+        }
+        // 저장이 끝나면(성공, 실패 모두) in-flight 순번에서 뺀다 (놓친 메시지 조회가 이 순번 앞에서 멈춤)
+        persisted.whenComplete((saved, e) -> releaseSeq(chatMessage));
+
+        if (!chatMessageWriter.acknowledgesAsynchronously()) {
+            ChatMessage saved;
+            try {
+                saved = persisted.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof DuplicateKeyException duplicate) {
+                    return replayFromStore(dto, duplicate);
+                }
+                failToSave(dto, chatMessage, e.getCause());
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            stageStart = chatMessageSendMetrics.record(Stage.PERSIST, stageStart);
+            stageStart = afterPersist(saved, stageStart);
+            chatMessageDispatcher.dispatchMessage(result);
+            chatMessageSendMetrics.record(Stage.DISPATCH, stageStart);
+            return result;
+        }
+
+        // group-commit 모드: 브로드캐스트는 바로 하고, 저장 결과는 수신 확인으로 따로 알려준다
+        stageStart = chatMessageSendMetrics.record(Stage.PERSIST, stageStart);
+        chatMessageDispatcher.dispatchMessage(result);
+        chatMessageSendMetrics.record(Stage.DISPATCH, stageStart);
+        persisted.whenComplete((saved, e) -> {
+            if (e instanceof DuplicateKeyException duplicate) {
+                // 이미 저장된 메시지의 재전송 (위에서 브로드캐스트된 사본은 클라이언트가 clientMessageId 로 걸러냄)
+                SendChatMessageResDto original = replayFromStore(dto, duplicate);
+                sendReceipt(
+                        ChatMessageReceiptResDto.of(original, BaseResponseStatus.SUCCESS), dto.getSenderUuid()
+                );
+                return;
+            }
+            if (e != null) {
+                log.error("메시지 저장 실패: {}", chatMessage.getMessageUuId(), e);
+                failToSave(dto, chatMessage, e);
+                return;
+            }
+            try {
+                afterPersist(saved, System.nanoTime());
+            } catch (RuntimeException ex) {
+                log.error("메시지 저장 후처리 실패: {}", saved.getMessageUuId(), ex);
+            }
+            sendReceipt(ChatMessageReceiptResDto.of(saved, BaseResponseStatus.SUCCESS), dto.getSenderUuid());
+        });
         return result;
     }
+
+    // 짧은 주기 안의 읽음 이벤트는 합쳐서 한 번만 반영
+    @Override
+    public void readMessages(MarkMessageAsReadReqDto dto) {
+        chatReadAggregator.submit(dto);
+    }
+
+    // cache, unread-counter 단계를 기록하고 dispatch 단계의 시작 시각을 돌려준다 (dispatch 는 호출한 쪽에서 기록)
+    private long afterPersist(ChatMessage chatMessage, long stageStart) {
+        chatMessageTailCache.append(chatMessage);
+        chatRoomCache.updateLastMessage(
+                chatMessage.getChatRoomUuid(), chatMessage.getContent(), chatMessage.getSentAt()
+        );
+        chatRoomLastMessageWriteBuffer.enqueue(
+                chatMessage.getChatRoomUuid(), chatMessage.getSenderUuid(), chatMessage.getContent(), chatMessage.getSentAt()
+        );
+        stageStart = chatMessageSendMetrics.record(Stage.CACHE, stageStart);
+
+        int unreadMessageCount = chatUnreadCounterRepository.increment(
+                chatMessage.getChatRoomUuid(), chatMessage.getReceiverUuid()
+        );
+        stageStart = chatMessageSendMetrics.record(Stage.UNREAD_COUNTER, stageStart);
+
+        // 두 참여자의 채팅방 목록 갱신 (보낸 사람의 안 읽은 메시지 수는 그대로)
+        chatMessageDispatcher.dispatchRoomUpdated(
+                chatMessage.getReceiverUuid(),
+                ChatRoomUpdatedResDto.of(chatMessage, chatMessage.getSenderUuid(), unreadMessageCount)
+        );
+        chatMessageDispatcher.dispatchRoomUpdated(
+                chatMessage.getSenderUuid(),
+                ChatRoomUpdatedResDto.of(chatMessage, chatMessage.getReceiverUuid(), null)
+        );
+        // 다른 인스턴스의 채팅방/최근 메시지 캐시 갱신
+        clusterFanout.publish(
+                chatMessage.getChatRoomUuid(),
+                ChatCacheClusterEventListener.MESSAGE_PERSISTED,
+                SendChatMessageResDto.from(chatMessage)
+        );
+        return stageStart;
+    }
+
+    // dedupe 캐시에서 빠진 뒤의 재전송: unique 인덱스에 걸린 최초 메시지를 찾아 그 결과를 돌려준다
+    private SendChatMessageResDto replayFromStore(SendChatMessageReqDto dto, DuplicateKeyException cause) {
+        SendChatMessageResDto original = chatMessageRepository
+                .findBySenderUuidAndClientMessageId(dto.getSenderUuid(), dto.getClientMessageId())
+                .map(SendChatMessageResDto::from)
+                .orElseThrow(() -> cause);
+        chatMessageDedupeCache.put(dto.getSenderUuid(), dto.getClientMessageId(), original);
+        chatMessageDispatcher.dispatchReplay(original);
+        return original;
+    }
+
+    // 최초 전송의 결과를 기다린다 (최초 전송이 id, 순번 발급 중이면 잠깐 대기, 실패했으면 저장 실패로 응답)
+    private SendChatMessageResDto awaitOriginal(CompletableFuture<SendChatMessageResDto> original) {
+        try {
+            return original.join();
+        } catch (CancellationException | CompletionException e) {
+            throw new BaseException(BaseResponseStatus.FAILED_TO_SAVE_CHAT_MESSAGE);
+        }
+    }
+
+    // 재전송이 다시 처리되도록 clientMessageId 를 잊고 보낸 사람에게 실패 수신 확인을 보낸다
+    private void failToSave(SendChatMessageReqDto dto, ChatMessage chatMessage, Throwable cause) {
+        forgetClientMessageId(dto);
+        BaseResponseStatus status = cause instanceof BaseException e
+                ? e.getStatus()
+                : BaseResponseStatus.FAILED_TO_SAVE_CHAT_MESSAGE;
+        sendReceipt(ChatMessageReceiptResDto.of(chatMessage, status), dto.getSenderUuid());
+    }
+
+    private void releaseSeq(ChatMessage chatMessage) {
+        chatRoomSequenceAllocator.release(chatMessage.getChatRoomUuid(), chatMessage.getSeq());
+    }
+
+    private void forgetClientMessageId(SendChatMessageReqDto dto) {
+        if (dto.getClientMessageId() != null) {
+            chatMessageDedupeCache.remove(dto.getSenderUuid(), dto.getClientMessageId());
+        }
+    }
+
+    private void sendReceipt(ChatMessageReceiptResDto receipt, String senderUuid) {
+        chatMessageDispatcher.dispatchReceipt(receipt, senderUuid);
+    }
 }
@@ -0,0 +1,133 @@
+package com.example.chatservice.domain.application;
+
+import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
+import com.example.chatservice.domain.dto.out.ChatReadStatusResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 이벤트 모아서 처리 (/chat.read)
+ * - 메시지가 화면에 보일 때마다 오는 읽음 이벤트를 (채팅방, 읽은 사람) 단위로 합쳐서
+ *   주기(window-ms)마다 한 번만 읽음 처리(bulk update)하고, 참여자에게 읽음 상태를 한 번 알린다.
+ */
+@Slf4j
+@Component
+public class ChatReadAggregator {
+
+    private final ChatRoomService chatRoomService;
+    private final ChatMessageDispatcher chatMessageDispatcher;
+    private final ConcurrentHashMap<String, MarkMessageAsReadReqDto> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    private final Counter receivedCounter;
+    private final Counter flushedCounter;
+
+    public ChatReadAggregator(
+            ChatRoomService chatRoomService,
+            ChatMessageDispatcher chatMessageDispatcher,
+            MeterRegistry meterRegistry
+    ) {
+        this.chatRoomService = chatRoomService;
+        this.chatMessageDispatcher = chatMessageDispatcher;
+        this.receivedCounter = Counter.builder("chat.read.events")
+                .description("받은 읽음 이벤트 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("chat.read.writes")
+                .description("합쳐진 뒤 실제로 반영한 읽음 처리 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.read.pending", pending, Map::size)
+                .description("반영 대기 중인 (채팅방, 읽은 사람) 수")
+                .register(meterRegistry);
+    }
+
+    public void submit(MarkMessageAsReadReqDto dto) {
+        receivedCounter.increment();
+        pending.merge(keyOf(dto), dto, ChatReadAggregator::newer);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read.window-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        synchronized (flushLock) {
+            List<MarkMessageAsReadReqDto> reads = new ArrayList<>(pending.size());
+            for (String key : pending.keySet()) {
+                MarkMessageAsReadReqDto read = pending.remove(key);
+                if (read != null) {
+                    reads.add(read);
+                }
+            }
+            if (reads.isEmpty()) {
+                return;
+            }
+
+            List<MarkMessageAsReadReqDto> applied = reads;
+            try {
+                chatRoomService.markUnreadMessagesAsRead(reads);
+            } catch (DataAccessException e) {
+                log.error("읽음 처리 반영 실패: {}건", reads.size(), e);
+                reads.forEach(this::requeue);
+                return;
+            } catch (RuntimeException e) {
+                // 이벤트 하나 때문에 전체가 계속 실패하지 않도록 건별로 다시 반영
+                log.warn("읽음 처리 batch 반영 실패, 건별로 재시도: {}건", reads.size(), e);
+                applied = markEach(reads);
+            }
+            flushedCounter.increment(applied.size());
+
+            for (MarkMessageAsReadReqDto read : applied) {
+                chatMessageDispatcher.dispatchReadStatus(
+                        ChatReadStatusResDto.of(read.getChatRoomUuid(), read.getReceiverUuid(), read.getReadAt())
+                );
+            }
+        }
+    }
+
+    // 저장소 오류는 다음 주기에 다시 시도하고, 그 외 오류가 나는 이벤트는 버린다
+    private List<MarkMessageAsReadReqDto> markEach(List<MarkMessageAsReadReqDto> reads) {
+        List<MarkMessageAsReadReqDto> applied = new ArrayList<>(reads.size());
+        for (MarkMessageAsReadReqDto read : reads) {
+            try {
+                chatRoomService.markUnreadMessagesAsRead(List.of(read));
+                applied.add(read);
+            } catch (DataAccessException e) {
+                log.error("읽음 처리 반영 실패: {}", keyOf(read), e);
+                requeue(read);
+            } catch (RuntimeException e) {
+                log.error("읽음 처리 반영 실패로 버림: {}", keyOf(read), e);
+            }
+        }
+        return applied;
+    }
+
+    // 다음 주기에 다시 시도 (그 사이 들어온 이벤트가 있으면 그쪽이 우선)
+    private void requeue(MarkMessageAsReadReqDto read) {
+        pending.merge(keyOf(read), read, ChatReadAggregator::newer);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static String keyOf(MarkMessageAsReadReqDto dto) {
+        return dto.getChatRoomUuid() + ":" + dto.getReceiverUuid();
+    }
+
+    private static MarkMessageAsReadReqDto newer(MarkMessageAsReadReqDto current, MarkMessageAsReadReqDto other) {
+        return other.getReadAt().isAfter(current.getReadAt()) ? other : current;
+    }
+}
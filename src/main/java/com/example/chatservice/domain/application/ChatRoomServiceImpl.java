@@ -1,28 +1,46 @@
 package com.example.chatservice.domain.application;
 
 import com.example.chatservice.common.response.CursorPage;
+import com.example.chatservice.domain.dto.in.ChatMessageGapReqDto;
 import com.example.chatservice.domain.dto.in.ChatMessageReqDto;
 import com.example.chatservice.domain.dto.in.ChatRoomListReqDto;
 import com.example.chatservice.domain.dto.in.CreateChatRoomReqDto;
 import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
+import com.example.chatservice.domain.dto.out.ChatMessageGapResDto;
 import com.example.chatservice.domain.dto.out.ChatMessageResDto;
 import com.example.chatservice.domain.dto.out.ChatRoomListResDto;
+import com.example.chatservice.domain.dto.out.ChatRoomUpdatedResDto;
 import com.example.chatservice.domain.dto.out.CreateChatRoomResDto;
+import com.example.chatservice.domain.entiy.ChatInbox;
 import com.example.chatservice.domain.entiy.ChatMessage;
+import com.example.chatservice.domain.entiy.ChatReadWatermark;
 import com.example.chatservice.domain.entiy.ChatRoom;
+import com.example.chatservice.domain.infrastructure.ChatInboxRepository;
 import com.example.chatservice.domain.infrastructure.ChatMessageRepository;
+import com.example.chatservice.domain.infrastructure.ChatReadWatermarkRepository;
 import com.example.chatservice.domain.infrastructure.ChatRoomRepository;
+import com.example.chatservice.domain.infrastructure.ChatRoomSequenceAllocator;
+import com.example.chatservice.domain.infrastructure.ChatUnreadCounterRepository;
+import com.example.chatservice.domain.infrastructure.cache.CachedChatRoom;
+import com.example.chatservice.domain.infrastructure.cache.ChatMessageTailCache;
+import com.example.chatservice.domain.infrastructure.cache.ChatRoomCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -31,10 +49,22 @@ import java.util.Optional;
 public class ChatRoomServiceImpl implements ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomCache chatRoomCache;
+    private final ChatInboxRepository chatInboxRepository;
+    private final ChatMessageTailCache chatMessageTailCache;
+    private final ChatUnreadCounterRepository chatUnreadCounterRepository;
+    private final ChatReadWatermarkRepository chatReadWatermarkRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final MongoTemplate mongoTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatMessageDispatcher chatMessageDispatcher;
+    private final ChatRoomSequenceAllocator chatRoomSequenceAllocator;
 
-    @Transactional
+    /**
+     * 참여자 쌍 키(unique)로 한 번 조회하고, 없으면 insert 를 시도한다.
+     * 동시에 같은 쌍의 채팅방이 만들어져 unique 제약에 걸리면 먼저 생성된 채팅방을 반환한다.
+     * - insert 와 재조회가 각각 별도 트랜잭션에서 실행되어야 재조회 시 커밋된 채팅방이 보이므로 트랜잭션 밖에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public CreateChatRoomResDto createOrGetRoom(CreateChatRoomReqDto dto) {
         Optional<ChatRoom> existingRoom = chatRoomRepository.findByParticipants(
@@ -50,7 +80,22 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         }
 
         ChatRoom newRoom = dto.toEntity();
-        chatRoomRepository.save(newRoom);
+        try {
+            // 채팅방과 두 참여자의 inbox 행은 함께 생성
+            transactionTemplate.executeWithoutResult(status -> {
+                chatRoomRepository.save(newRoom);
+                LocalDateTime now = LocalDateTime.now();
+                chatInboxRepository.saveAll(newRoom.getParticipantUuids().stream()
+                        .map(memberUuid -> ChatInbox.of(memberUuid, newRoom, now))
+                        .toList());
+            });
+        } catch (DataIntegrityViolationException e) {
+            ChatRoom room = chatRoomRepository.findByParticipants(dto.getParticipantAUuid(), dto.getParticipantBUuid())
+                    .orElseThrow(() -> e);
+            return CreateChatRoomResDto.builder()
+                    .chatRoomUuid(room.getChatRoomUuid())
+                    .build();
+        }
 
         return CreateChatRoomResDto.builder()
                 .chatRoomUuid(newRoom.getChatRoomUuid())
@@ -59,38 +104,180 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     @Override
     public void markUnreadMessagesAsRead(MarkMessageAsReadReqDto dto) {
-        Query query = new Query(
-                Criteria.where("chatRoomUuid").is(dto.getChatRoomUuid())
-                        .and("receiverUuid").is(dto.getReceiverUuid())
-                        .and("read").is(false)
+        if (dto.getReadAt() != null) {
+            markUnreadMessagesAsRead(List.of(dto));
+            return;
+        }
+        // 읽은 위치가 없으면 채팅방의 마지막 메시지까지 (메시지가 없으면 할 일 없음)
+        chatRoomCache.get(dto.getChatRoomUuid())
+                .map(CachedChatRoom::lastMessageTime)
+                .ifPresent(lastMessageTime -> markUnreadMessagesAsRead(List.of(dto.withReadAt(lastMessageTime))));
+    }
+
+    /**
+     * 여러 (채팅방, 읽은 사람)의 읽음 위치를 한 번에 앞으로 옮긴다.
+     * - 메시지 문서는 건드리지 않으므로 안 읽은 메시지 수와 무관하게 (채팅방, 읽은 사람)당 upsert 한 번
+     */
+    @Override
+    public void markUnreadMessagesAsRead(List<MarkMessageAsReadReqDto> dtos) {
+        chatReadWatermarkRepository.advanceAll(dtos);
+        for (MarkMessageAsReadReqDto dto : dtos) {
+            Optional<CachedChatRoom> chatRoom = findChatRoomForReadUpdate(dto.getChatRoomUuid());
+            int unreadMessageCount = resetUnreadCount(dto, chatRoom);
+            // 읽은 사람의 다른 기기 채팅방 목록에서 안 읽은 메시지 수 정리
+            chatRoom.ifPresent(room -> chatMessageDispatcher.dispatchRoomUpdated(
+                    dto.getReceiverUuid(), ChatRoomUpdatedResDto.of(room, dto.getReceiverUuid(), unreadMessageCount)
+            ));
+        }
+    }
+
+    /**
+     * 캐시 로더는 readOnly 트랜잭션 안에서 replica 를 읽으므로 방금 만든 채팅방이 아직 안 보일 수 있다.
+     * 캐시에 없으면 새 쓰기 트랜잭션(primary)으로 한 번 더 조회하고, 그래도 없으면 목록 알림을 생략한다고 남긴다.
+     */
+    private Optional<CachedChatRoom> findChatRoomForReadUpdate(String chatRoomUuid) {
+        Optional<CachedChatRoom> cached = chatRoomCache.get(chatRoomUuid);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        TransactionTemplate primaryRead = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Optional<CachedChatRoom> loaded = primaryRead.execute(status -> chatRoomRepository.findByChatRoomUuid(chatRoomUuid))
+                .map(CachedChatRoom::from);
+        loaded.ifPresentOrElse(
+                chatRoomCache::put,
+                () -> log.warn("읽음 처리한 채팅방을 찾을 수 없어 채팅방 목록 알림을 생략: {}", chatRoomUuid)
         );
+        return loaded;
+    }
 
-        Update update = new Update().set("read", true);
-        mongoTemplate.updateMulti(query, update, ChatMessage.class);
+    // 읽은 위치 뒤에 온 메시지가 있으면 그만큼은 안 읽은 채로 남긴다
+    private int resetUnreadCount(MarkMessageAsReadReqDto dto, Optional<CachedChatRoom> chatRoom) {
+        boolean hasLaterMessage = chatRoom
+                .map(CachedChatRoom::lastMessageTime)
+                .filter(lastMessageTime -> lastMessageTime.isAfter(dto.getReadAt()))
+                .isPresent();
+        if (hasLaterMessage) {
+            return chatUnreadCounterRepository.recountAfter(dto.getChatRoomUuid(), dto.getReceiverUuid(), dto.getReadAt());
+        }
+        chatUnreadCounterRepository.reset(dto.getChatRoomUuid(), dto.getReceiverUuid());
+        return 0;
     }
 
     @Override
     public CursorPage<ChatRoomListResDto> getChatRoomList(String senderUuid, ChatRoomListReqDto chatRoomListReqDto) {
-        CursorPage<ChatRoom> chatRooms = chatRoomRepository.findAllChatRoomsWithCursor(senderUuid, chatRoomListReqDto);
-        return chatRooms.map(chatRoom -> ChatRoomListResDto.from(chatRoom, senderUuid));
+        CursorPage<ChatInbox> inbox = chatInboxRepository.findInboxWithCursor(senderUuid, chatRoomListReqDto);
+        List<String> chatRoomUuids = inbox.getContent().stream().map(ChatInbox::getChatRoomUuid).toList();
+
+        // 페이지 단위로 채팅방 정보와 안 읽은 메시지 수를 한 번에 조회
+        Map<String, CachedChatRoom> chatRooms = chatRoomCache.getAll(chatRoomUuids);
+        Map<String, Integer> unreadCounts = chatUnreadCounterRepository.findCountsByChatRoomUuids(
+                senderUuid, chatRoomUuids
+        );
+
+        List<ChatRoomListResDto> content = chatRoomUuids.stream()
+                .map(chatRooms::get)
+                .filter(Objects::nonNull)
+                .map(chatRoom -> ChatRoomListResDto.from(
+                        chatRoom, senderUuid, unreadCounts.getOrDefault(chatRoom.chatRoomUuid(), 0)
+                ))
+                .toList();
+
+        return CursorPage.of(content, inbox.getHasNext(), inbox.getNextCursor());
     }
 
     @Override
     public ChatRoomListResDto getChatRoom(String memberUuid, String chatRoomUuid) {
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomUuid(chatRoomUuid)
+        CachedChatRoom chatRoom = chatRoomCache.get(chatRoomUuid)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다."));
 
-        return ChatRoomListResDto.from(chatRoom,memberUuid);
+        int unreadMessageCount = chatUnreadCounterRepository
+                .findCountsByChatRoomUuids(memberUuid, List.of(chatRoomUuid))
+                .getOrDefault(chatRoomUuid, 0);
+
+        return ChatRoomListResDto.from(chatRoom, memberUuid, unreadMessageCount);
     }
 
     @Override
     public CursorPage<ChatMessageResDto> getChatMessages(String chatRoomUuid, ChatMessageReqDto chatMessageReqDto) {
-        CursorPage<ChatMessage> page = chatMessageRepository.findChatMessagesByCursor(chatRoomUuid, chatMessageReqDto);
+        CursorPage<ChatMessage> page = chatMessageTailCache.findChatMessagesByCursor(chatRoomUuid, chatMessageReqDto);
+
+        // 읽음 여부는 수신자의 읽음 위치 기준으로 응답 시점에 계산
+        Map<String, ChatReadWatermark> watermarks = new HashMap<>();
+        chatReadWatermarkRepository.findAllByChatRoomUuid(chatRoomUuid)
+                .forEach(watermark -> watermarks.put(watermark.getMemberUuid(), watermark));
 
         List<ChatMessageResDto> dtoList = page.getContent().stream()
-                .map(ChatMessageResDto::from)
+                .map(chatMessage -> {
+                    ChatReadWatermark watermark = watermarks.get(chatMessage.getReceiverUuid());
+                    return ChatMessageResDto.from(chatMessage, watermark != null && watermark.covers(chatMessage));
+                })
                 .toList();
 
         return CursorPage.of(dtoList, page.getHasNext(), page.getNextCursor());
     }
+
+    /**
+     * 재연결 시 채팅방별로 마지막으로 받은 seq 이후의 메시지만 조회
+     * - 회원이 참여한 채팅방만 조회한다.
+     * - 아직 저장 중인 seq 가 있으면 그 앞에서 멈추고 hasNext = true (뒤 메시지를 먼저 주면 클라이언트가 그 seq 를 건너뜀)
+     * - 전체 size 개까지만 돌려주며, 잘린 채팅방과 그 뒤 순서(chatRoomUuid 오름차순)의 채팅방은 hasNext = true
+     */
+    @Override
+    public List<ChatMessageGapResDto> getMissedChatMessages(ChatMessageGapReqDto dto) {
+        Map<String, CachedChatRoom> chatRooms = chatRoomCache.getAll(dto.getLastSeqByChatRoom().keySet());
+        TreeMap<String, Long> lastSeqByChatRoom = new TreeMap<>();
+        Map<String, Long> seqLimitByChatRoom = new HashMap<>();
+        dto.getLastSeqByChatRoom().forEach((chatRoomUuid, lastSeq) -> {
+            CachedChatRoom chatRoom = chatRooms.get(chatRoomUuid);
+            if (chatRoom == null || !chatRoom.hasParticipant(dto.getMemberUuid())) {
+                return;
+            }
+            lastSeqByChatRoom.put(chatRoomUuid, lastSeq);
+            long seqLimit = chatRoomSequenceAllocator.inFlightFloor(chatRoomUuid, lastSeq);
+            if (seqLimit != Long.MAX_VALUE) {
+                seqLimitByChatRoom.put(chatRoomUuid, seqLimit);
+            }
+        });
+
+        List<ChatMessage> messages = chatMessageRepository.findChatMessagesAfterSeq(
+                lastSeqByChatRoom, seqLimitByChatRoom, dto.getSize() + 1
+        );
+        String truncatedFrom = null;
+        if (messages.size() > dto.getSize()) {
+            truncatedFrom = messages.get(dto.getSize()).getChatRoomUuid();
+            messages = messages.subList(0, dto.getSize());
+        }
+
+        Map<String, List<ChatMessage>> messagesByChatRoom = new HashMap<>();
+        for (ChatMessage chatMessage : messages) {
+            messagesByChatRoom.computeIfAbsent(chatMessage.getChatRoomUuid(), key -> new ArrayList<>()).add(chatMessage);
+        }
+
+        Map<String, ChatReadWatermark> watermarks = new HashMap<>();
+        if (!messagesByChatRoom.isEmpty()) {
+            chatReadWatermarkRepository.findAllByChatRoomUuidIn(messagesByChatRoom.keySet())
+                    .forEach(watermark -> watermarks.put(watermark.getId(), watermark));
+        }
+
+        List<ChatMessageGapResDto> result = new ArrayList<>(lastSeqByChatRoom.size());
+        for (String chatRoomUuid : lastSeqByChatRoom.keySet()) {
+            List<ChatMessageResDto> content = messagesByChatRoom.getOrDefault(chatRoomUuid, List.of()).stream()
+                    .map(chatMessage -> {
+                        ChatReadWatermark watermark = watermarks.get(
+                                ChatReadWatermark.idOf(chatRoomUuid, chatMessage.getReceiverUuid())
+                        );
+                        return ChatMessageResDto.from(chatMessage, watermark != null && watermark.covers(chatMessage));
+                    })
+                    .toList();
+            result.add(ChatMessageGapResDto.builder()
+                    .chatRoomUuid(chatRoomUuid)
+                    .messages(content)
+                    .hasNext(seqLimitByChatRoom.containsKey(chatRoomUuid)
+                            || (truncatedFrom != null && chatRoomUuid.compareTo(truncatedFrom) >= 0))
+                    .build());
+        }
+        return result;
+    }
 }
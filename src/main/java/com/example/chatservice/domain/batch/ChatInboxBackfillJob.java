@@ -0,0 +1,67 @@
+package com.example.chatservice.domain.batch;
+
+import com.example.chatservice.domain.entiy.ChatInbox;
+import com.example.chatservice.domain.entiy.ChatRoom;
+import com.example.chatservice.domain.infrastructure.ChatInboxRepository;
+import com.example.chatservice.domain.infrastructure.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * chat_inbox 가 없는 기존 채팅방에 대해 참여자별 inbox 행 생성
+ * - activityAt 은 마지막 메시지 시각, 메시지가 없으면 채팅방 생성 시각
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxBackfillJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatInboxRepository chatInboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            long fromId = lastId;
+            List<ChatRoom> rooms = transactionTemplate.execute(status -> {
+                List<ChatRoom> batch = chatRoomRepository.findWithoutInbox(fromId, PageRequest.of(0, BATCH_SIZE));
+                List<ChatInbox> inboxes = new ArrayList<>(batch.size() * 2);
+                for (ChatRoom room : batch) {
+                    LocalDateTime activityAt = room.getLastMessageTime() != null
+                            ? room.getLastMessageTime()
+                            : Objects.requireNonNullElseGet(room.getCreatedAt(), LocalDateTime::now);
+                    for (String memberUuid : room.getParticipantUuids()) {
+                        inboxes.add(ChatInbox.of(memberUuid, room, activityAt));
+                    }
+                }
+                chatInboxRepository.saveAll(inboxes);
+                return batch;
+            });
+
+            if (rooms == null || rooms.isEmpty()) {
+                break;
+            }
+            total += rooms.size();
+            lastId = rooms.get(rooms.size() - 1).getId();
+        }
+
+        if (total > 0) {
+            log.info(">>> chat_inbox 채우기 완료: 채팅방 {}건", total);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.chatservice.domain.batch;
+
+import com.example.chatservice.domain.infrastructure.ChatReadWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * chat_message.read 플래그 -> chat_read_watermark 이전 작업
+ * - 읽음 여부는 (read 플래그 || 읽음 위치) 로 판단하므로 이전 전후 모두 결과가 같고,
+ *   이전이 끝나면 read 플래그는 더 이상 필요 없다.
+ * - chat.read.watermark.migrate-on-startup=true 인 경우 기동 직후 1회 실행 (여러 번 실행해도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.read.watermark.migrate-on-startup", havingValue = "true")
+public class ChatReadWatermarkMigrationJob {
+
+    private final ChatReadWatermarkRepository chatReadWatermarkRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        log.info(">>> 읽음 위치 이전 시작");
+
+        int written = chatReadWatermarkRepository.migrateFromReadFlags();
+
+        log.info(">>> 읽음 위치 이전 완료: {}건, {}ms",
+                 written, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.chatservice.domain.batch;
+
+import com.example.chatservice.domain.entiy.ChatRoom;
+import com.example.chatservice.domain.infrastructure.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * participantPairKey 가 비어 있는 기존 chat_room 데이터 채우기
+ * - 이미 같은 참여자 쌍의 채팅방이 중복으로 존재하는 경우, 먼저 만들어진(id 가 작은) 채팅방만 쌍 키를 갖고
+ *   나머지는 "dup:{chatRoomUuid}" 로 채워 unique 제약을 지키면서 채팅방 UUID 로는 계속 조회할 수 있게 둔다.
+ * - 한 번만 실행하는 이전 작업이므로 인스턴스 하나에서만 켠다. (chat.room.pair-key.backfill-on-startup=true)
+ *   끝나기 전에도 ChatRoomRepository.findByParticipants 가 쌍 키가 없는 기존 채팅방을 찾으므로 중복 채팅방은 생기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.room.pair-key.backfill-on-startup", havingValue = "true")
+public class ChatRoomPairKeyBackfillJob {
+
+    private static final String DUPLICATE_KEY_PREFIX = "dup:";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        int duplicated = 0;
+        int[] result;
+        do {
+            result = transactionTemplate.execute(status -> backfillBatch());
+            total += result[0];
+            duplicated += result[1];
+        } while (result[0] > 0);
+
+        if (total > 0) {
+            log.info(">>> chat_room 참여자 쌍 키 채우기 완료: {}건 (중복 채팅방 {}건)", total, duplicated);
+        }
+    }
+
+    private int[] backfillBatch() {
+        List<ChatRoom> rooms = chatRoomRepository.findTop500ByParticipantPairKeyIsNullOrderByIdAsc();
+        if (rooms.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        Set<String> pairKeys = new HashSet<>();
+        for (ChatRoom room : rooms) {
+            pairKeys.add(ChatRoom.pairKeyOf(room.getParticipantAUuid(), room.getParticipantBUuid()));
+        }
+
+        Set<String> taken = new HashSet<>();
+        chatRoomRepository.findAllByParticipantPairKeyIn(pairKeys)
+                .forEach(room -> taken.add(room.getParticipantPairKey()));
+
+        int duplicated = 0;
+        for (ChatRoom room : rooms) {
+            String pairKey = ChatRoom.pairKeyOf(room.getParticipantAUuid(), room.getParticipantBUuid());
+            if (!taken.add(pairKey)) {
+                log.warn("중복 채팅방 발견: {} ({})", room.getChatRoomUuid(), pairKey);
+                pairKey = DUPLICATE_KEY_PREFIX + room.getChatRoomUuid();
+                duplicated++;
+            }
+            room.assignParticipantPairKey(pairKey);
+        }
+        return new int[]{rooms.size(), duplicated};
+    }
+}
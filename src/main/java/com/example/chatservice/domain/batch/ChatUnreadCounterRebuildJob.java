@@ -0,0 +1,43 @@
+package com.example.chatservice.domain.batch;
+
+import com.example.chatservice.domain.infrastructure.ChatUnreadCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 안 읽은 메시지 카운터 재계산 작업
+ * - 비정상 종료 등으로 카운터가 chat_message 와 어긋났을 때 chat_message 기준으로 다시 맞춘다.
+ * - chat.unread-counter.rebuild-on-startup=true 인 경우 기동 중 1회 실행
+ * - 재계산은 카운터를 $set 으로 덮어쓰므로 실시간 $inc 와 겹치면 안 된다.
+ *   그래서 모든 빈 생성 직후, 웹 서버(STOMP 엔드포인트)와 Kafka 리스너가 시작되기 전에 실행해서 이 인스턴스는 트래픽을 받지 않는다.
+ *   다른 인스턴스는 막을 수 없으므로 모든 인스턴스를 내린 상태에서 한 인스턴스만 켜서 실행한다. (점검 작업)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.unread-counter.rebuild-on-startup", havingValue = "true")
+public class ChatUnreadCounterRebuildJob implements SmartInitializingSingleton {
+
+    private final ChatUnreadCounterRepository chatUnreadCounterRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        log.info(">>> 안 읽은 메시지 카운터 재계산 시작");
+
+        int written = chatUnreadCounterRepository.rebuildFromChatMessages(startedAt);
+
+        log.info(">>> 안 읽은 메시지 카운터 재계산 완료: {}건, {}ms",
+                 written, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.chatservice.domain.dto.in;
+
+import com.example.chatservice.common.exception.BaseException;
+import com.example.chatservice.common.response.BaseResponseStatus;
+import com.example.chatservice.domain.vo.in.ChatMessageGapReqVo;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 채팅방별로 마지막으로 받은 순번 이후의 메시지 조회 요청
+ * - lastSeq 가 null 이면 0 (순번이 있는 메시지 전체)
+ * - 채팅방 수는 MAX_CHAT_ROOMS 까지 ($or 조건 수 제한)
+ */
+@Getter
+public class ChatMessageGapReqDto {
+
+    private static final int DEFAULT_SIZE = 100;
+    private static final int MAX_SIZE = 500;
+    private static final int MAX_CHAT_ROOMS = 100;
+
+    private String memberUuid;
+    // 응답 순서를 MongoDB 정렬(chatRoomUuid 오름차순)과 맞추기 위해 정렬된 맵 사용
+    private TreeMap<String, Long> lastSeqByChatRoom;
+    private int size;
+
+    @Builder
+    public ChatMessageGapReqDto(String memberUuid, Map<String, Long> lastSeqByChatRoom, int size) {
+        this.memberUuid = memberUuid;
+        this.lastSeqByChatRoom = new TreeMap<>();
+        lastSeqByChatRoom.forEach((chatRoomUuid, lastSeq) ->
+                this.lastSeqByChatRoom.put(chatRoomUuid, lastSeq != null ? lastSeq : 0L));
+        this.size = size;
+    }
+
+    public static ChatMessageGapReqDto of(String memberUuid, ChatMessageGapReqVo vo) {
+        Map<String, Long> lastSeqByChatRoom = vo.getLastSeqByChatRoom() != null ? vo.getLastSeqByChatRoom() : Map.of();
+        if (lastSeqByChatRoom.size() > MAX_CHAT_ROOMS) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_CHAT_ROOMS);
+        }
+        int size = vo.getSize() != null && vo.getSize() > 0 ? vo.getSize() : DEFAULT_SIZE;
+        return ChatMessageGapReqDto.builder()
+                .memberUuid(memberUuid)
+                .lastSeqByChatRoom(lastSeqByChatRoom)
+                .size(Math.min(size, MAX_SIZE))
+                .build();
+    }
+}
@@ -3,14 +3,12 @@ package com.example.chatservice.domain.dto.in;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.time.LocalDateTime;
-
 @Getter
 @AllArgsConstructor
 public class ChatMessageReqDto {
 
     private String senderUuid;
-    private LocalDateTime cursor;
+    private String cursor;
     private Integer size;
 
 }
@@ -29,6 +29,7 @@ public class CreateChatRoomReqDto {
                 .build();
     }
 
+    // 채팅방 ID 는 URL 에 노출되므로 추측할 수 없는 랜덤 UUID 를 쓴다 (시간 순 ID 는 메시지에만 사용)
     public ChatRoom toEntity() {
         return ChatRoom.builder()
                 .chatRoomUuid(UUID.randomUUID().toString())
@@ -4,23 +4,38 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 public class MarkMessageAsReadReqDto {
 
     private String receiverUuid;
     private String chatRoomUuid;
+    private LocalDateTime readAt;
 
     @Builder
-    public MarkMessageAsReadReqDto(String receiverUuid, String chatRoomUuid) {
+    public MarkMessageAsReadReqDto(String receiverUuid, String chatRoomUuid, LocalDateTime readAt) {
         this.receiverUuid = receiverUuid;
         this.chatRoomUuid = chatRoomUuid;
+        this.readAt = readAt;
     }
 
-    public static MarkMessageAsReadReqDto of(String receiverUuid, String chatRoomUuid) {
+    /**
+     * 클라이언트가 마지막으로 본 메시지 위치(sentAt)까지 읽음 처리
+     * - 서버 시각을 쓰면 아직 화면에 나오지 않은 메시지까지 읽음이 되므로 클라이언트 위치를 쓰고, 미래 시각은 현재로 자른다.
+     * - null 이면 채팅방의 마지막 메시지까지 읽음 처리 (ChatRoomService 에서 채움)
+     */
+    public static MarkMessageAsReadReqDto of(String receiverUuid, String chatRoomUuid, LocalDateTime lastReadAt) {
+        LocalDateTime now = LocalDateTime.now();
         return MarkMessageAsReadReqDto.builder()
                 .receiverUuid(receiverUuid)
                 .chatRoomUuid(chatRoomUuid)
+                .readAt(lastReadAt != null && lastReadAt.isAfter(now) ? now : lastReadAt)
                 .build();
     }
+
+    public MarkMessageAsReadReqDto withReadAt(LocalDateTime readAt) {
+        return new MarkMessageAsReadReqDto(receiverUuid, chatRoomUuid, readAt);
+    }
 }
@@ -5,9 +5,10 @@ import com.example.chatservice.domain.vo.in.SendChatMessageReqVo;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @NoArgsConstructor
@@ -17,31 +18,34 @@ public class SendChatMessageReqDto {
     private String receiverUuid;
 
     private String content;
+    private String clientMessageId;
     private LocalDateTime sentAt;
 
     private boolean read;
 
     @Builder
     public SendChatMessageReqDto(
-            String chatRoomUuid, String senderUuid, String receiverUuid, String content, LocalDateTime sentAt,
-            boolean read
+            String chatRoomUuid, String senderUuid, String receiverUuid, String content, String clientMessageId,
+            LocalDateTime sentAt, boolean read
     ) {
         this.chatRoomUuid = chatRoomUuid;
         this.senderUuid = senderUuid;
         this.receiverUuid = receiverUuid;
         this.content = content;
+        this.clientMessageId = clientMessageId;
         this.sentAt = sentAt;
         this.read = read;
     }
 
-    public ChatMessage toEntity() {
+    public ChatMessage toEntity(String messageUuid) {
         return ChatMessage.builder()
-                .messageUuId(UUID.randomUUID().toString())
+                .messageUuId(messageUuid)
                 .chatRoomUuid(chatRoomUuid)
                 .senderUuid(senderUuid)
                 .receiverUuid(receiverUuid)
                 .content(content)
-                .sentAt(LocalDateTime.now())
+                .clientMessageId(clientMessageId)
+                .sentAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)) // MongoDB 저장 정밀도(ms)와 맞춤
                 .read(false)
                 .build();
     }
@@ -52,6 +56,7 @@ public class SendChatMessageReqDto {
                 .senderUuid(senderUuid)
                 .receiverUuid(vo.getReceiverUuid())
                 .content(vo.getContent())
+                .clientMessageId(StringUtils.hasText(vo.getClientMessageId()) ? vo.getClientMessageId() : null)
                 .sentAt(LocalDateTime.now())
                 .read(false)
                 .build();
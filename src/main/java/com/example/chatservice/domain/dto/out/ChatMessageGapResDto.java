@@ -0,0 +1,25 @@
+package com.example.chatservice.domain.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅방 하나의 놓친 메시지 (seq 오름차순)
+ * - hasNext 가 true 이면 응답 크기 제한으로 잘린 것이므로 마지막 seq 로 다시 요청
+ */
+@Getter
+public class ChatMessageGapResDto {
+
+    private String chatRoomUuid;
+    private List<ChatMessageResDto> messages;
+    private boolean hasNext;
+
+    @Builder
+    public ChatMessageGapResDto(String chatRoomUuid, List<ChatMessageResDto> messages, boolean hasNext) {
+        this.chatRoomUuid = chatRoomUuid;
+        this.messages = messages;
+        this.hasNext = hasNext;
+    }
+}
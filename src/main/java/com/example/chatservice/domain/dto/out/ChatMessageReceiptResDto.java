@@ -0,0 +1,58 @@
+package com.example.chatservice.domain.dto.out;
+
+import com.example.chatservice.common.response.BaseResponseStatus;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 메시지 저장 결과(수신 확인)
+ * - group-commit 모드에서 보낸 사람에게 메시지가 실제로 저장되었는지 알려준다.
+ */
+@Getter
+public class ChatMessageReceiptResDto {
+
+    private String messageUuid;
+    private String clientMessageId;
+    private String chatRoomUuid;
+    // 공통 응답(BaseResponseEntity)과 같은 필드명으로 내려가도록 (boolean getter 는 기본적으로 "success" 로 직렬화됨)
+    @JsonProperty("isSuccess")
+    private boolean success;
+    private int code;
+    private String message;
+
+    @Builder
+    public ChatMessageReceiptResDto(
+            String messageUuid, String clientMessageId, String chatRoomUuid, boolean success, int code, String message
+    ) {
+        this.messageUuid = messageUuid;
+        this.clientMessageId = clientMessageId;
+        this.chatRoomUuid = chatRoomUuid;
+        this.success = success;
+        this.code = code;
+        this.message = message;
+    }
+
+    public static ChatMessageReceiptResDto of(ChatMessage chatMessage, BaseResponseStatus status) {
+        return ChatMessageReceiptResDto.builder()
+                .messageUuid(chatMessage.getMessageUuId())
+                .clientMessageId(chatMessage.getClientMessageId())
+                .chatRoomUuid(chatMessage.getChatRoomUuid())
+                .success(status.isSuccess())
+                .code(status.getCode())
+                .message(status.getMessage())
+                .build();
+    }
+
+    public static ChatMessageReceiptResDto of(SendChatMessageResDto message, BaseResponseStatus status) {
+        return ChatMessageReceiptResDto.builder()
+                .messageUuid(message.getMessageUuid())
+                .clientMessageId(message.getClientMessageId())
+                .chatRoomUuid(message.getChatRoomUuid())
+                .success(status.isSuccess())
+                .code(status.getCode())
+                .message(status.getMessage())
+                .build();
+    }
+}
@@ -12,25 +12,33 @@ public class ChatMessageResDto {
     private String senderUuid;
     private String content;
     private LocalDateTime sentAt;
+    private Long seq;
     private boolean read;
 
     @Builder
     public ChatMessageResDto(
-            String messageUuid, String senderUuid, String content, LocalDateTime sentAt, boolean read) {
+            String messageUuid, String senderUuid, String content, LocalDateTime sentAt, Long seq, boolean read) {
         this.messageUuid = messageUuid;
         this.senderUuid = senderUuid;
         this.content = content;
         this.sentAt = sentAt;
+        this.seq = seq;
         this.read = read;
     }
 
     public static ChatMessageResDto from(ChatMessage chatMessage) {
+        return from(chatMessage, false);
+    }
+
+    // 읽음 여부: 기존 read 플래그(이전 데이터) 또는 수신자의 읽음 위치
+    public static ChatMessageResDto from(ChatMessage chatMessage, boolean coveredByWatermark) {
         return ChatMessageResDto.builder()
                 .messageUuid(chatMessage.getMessageUuId())
                 .senderUuid(chatMessage.getSenderUuid())
                 .content(chatMessage.getContent())
                 .sentAt(chatMessage.getSentAt())
-                .read(chatMessage.isRead())
+                .seq(chatMessage.getSeq())
+                .read(chatMessage.isRead() || coveredByWatermark)
                 .build();
     }
 }
@@ -0,0 +1,33 @@
+package com.example.chatservice.domain.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽음 상태 변경 알림 (상대방에게 전송)
+ * - readAt 이전에 받은 메시지는 모두 읽음 처리됨
+ */
+@Getter
+public class ChatReadStatusResDto {
+
+    private String chatRoomUuid;
+    private String readerUuid;
+    private LocalDateTime readAt;
+
+    @Builder
+    public ChatReadStatusResDto(String chatRoomUuid, String readerUuid, LocalDateTime readAt) {
+        this.chatRoomUuid = chatRoomUuid;
+        this.readerUuid = readerUuid;
+        this.readAt = readAt;
+    }
+
+    public static ChatReadStatusResDto of(String chatRoomUuid, String readerUuid, LocalDateTime readAt) {
+        return ChatReadStatusResDto.builder()
+                .chatRoomUuid(chatRoomUuid)
+                .readerUuid(readerUuid)
+                .readAt(readAt)
+                .build();
+    }
+}
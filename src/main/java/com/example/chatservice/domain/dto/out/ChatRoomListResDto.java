@@ -1,6 +1,6 @@
 package com.example.chatservice.domain.dto.out;
 
-import com.example.chatservice.domain.entiy.ChatRoom;
+import com.example.chatservice.domain.infrastructure.cache.CachedChatRoom;
 import com.example.chatservice.domain.vo.out.ChatRoomListResVo;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,17 +40,14 @@ public class ChatRoomListResDto {
     }
 
 
-    public static ChatRoomListResDto from(ChatRoom chatRoom, String senderUuid) {
-        String opponent = senderUuid.equals(chatRoom.getParticipantAUuid())
-                ? chatRoom.getParticipantBUuid()
-                : chatRoom.getParticipantAUuid();
-
+    public static ChatRoomListResDto from(CachedChatRoom chatRoom, String senderUuid, int unreadMessageCount) {
         return ChatRoomListResDto.builder()
-                .chatRoomUuid(chatRoom.getChatRoomUuid())
+                .chatRoomUuid(chatRoom.chatRoomUuid())
                 .senderUuid(senderUuid)
-                .receiverUuid(opponent)
-                .lastMessage(chatRoom.getLastMessage())
-                .lastMessageTime(chatRoom.getLastMessageTime())
+                .receiverUuid(chatRoom.opponentOf(senderUuid))
+                .lastMessage(chatRoom.lastMessage())
+                .lastMessageTime(chatRoom.lastMessageTime())
+                .unreadMessageCount(unreadMessageCount)
                 .build();
     }
 
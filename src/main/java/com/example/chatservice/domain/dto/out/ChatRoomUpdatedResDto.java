@@ -0,0 +1,71 @@
+package com.example.chatservice.domain.dto.out;
+
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.example.chatservice.domain.infrastructure.cache.CachedChatRoom;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 변경 알림 (/user/queue/rooms)
+ * - 메시지 전송, 읽음 처리로 회원의 채팅방 목록 항목이 바뀔 때 해당 회원에게 전송
+ * - receiverUuid 는 받는 회원 기준의 상대방 (ChatRoomListResDto 와 동일)
+ * - unreadMessageCount 가 null 이면 안 읽은 메시지 수는 바뀌지 않았다는 뜻
+ * - lastMessage 는 목록 미리보기용으로 PREVIEW_MAX_LENGTH 글자까지만 보낸다. (전체 내용은 메시지 채널로 전달됨)
+ */
+@Getter
+public class ChatRoomUpdatedResDto {
+
+    static final int PREVIEW_MAX_LENGTH = 100;
+
+    private String chatRoomUuid;
+    private String receiverUuid;
+    private String lastMessage;
+    private LocalDateTime lastMessageTime;
+    private Integer unreadMessageCount;
+
+    @Builder
+    public ChatRoomUpdatedResDto(
+            String chatRoomUuid, String receiverUuid, String lastMessage, LocalDateTime lastMessageTime,
+            Integer unreadMessageCount
+    ) {
+        this.chatRoomUuid = chatRoomUuid;
+        this.receiverUuid = receiverUuid;
+        this.lastMessage = lastMessage;
+        this.lastMessageTime = lastMessageTime;
+        this.unreadMessageCount = unreadMessageCount;
+    }
+
+    public static ChatRoomUpdatedResDto of(ChatMessage chatMessage, String opponentUuid, Integer unreadMessageCount) {
+        return ChatRoomUpdatedResDto.builder()
+                .chatRoomUuid(chatMessage.getChatRoomUuid())
+                .receiverUuid(opponentUuid)
+                .lastMessage(preview(chatMessage.getContent()))
+                .lastMessageTime(chatMessage.getSentAt())
+                .unreadMessageCount(unreadMessageCount)
+                .build();
+    }
+
+    public static ChatRoomUpdatedResDto of(CachedChatRoom chatRoom, String memberUuid, Integer unreadMessageCount) {
+        return ChatRoomUpdatedResDto.builder()
+                .chatRoomUuid(chatRoom.chatRoomUuid())
+                .receiverUuid(chatRoom.opponentOf(memberUuid))
+                .lastMessage(preview(chatRoom.lastMessage()))
+                .lastMessageTime(chatRoom.lastMessageTime())
+                .unreadMessageCount(unreadMessageCount)
+                .build();
+    }
+
+    // 서로게이트 쌍(이모지 등)이 잘리지 않도록 code point 기준으로 자른다
+    static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_MAX_LENGTH) {
+            return content;
+        }
+        int codePoints = content.codePointCount(0, content.length());
+        if (codePoints <= PREVIEW_MAX_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_MAX_LENGTH));
+    }
+}
@@ -10,37 +10,43 @@ import java.time.LocalDateTime;
 public class SendChatMessageResDto {
 
     private String messageUuid;
+    private String clientMessageId;
     private String chatRoomUuid;
     private String senderUuid;
     private String receiverUuid;
 
     private String content;
     private LocalDateTime sentAt;
+    private Long seq;
 
     private boolean read;
 
     @Builder
     public SendChatMessageResDto(
-            String messageUuid, String chatRoomUuid, String senderUuid, String receiverUuid, String content,
-            LocalDateTime sentAt, boolean read
+            String messageUuid, String clientMessageId, String chatRoomUuid, String senderUuid, String receiverUuid,
+            String content, LocalDateTime sentAt, Long seq, boolean read
     ) {
         this.messageUuid = messageUuid;
+        this.clientMessageId = clientMessageId;
         this.chatRoomUuid = chatRoomUuid;
         this.senderUuid = senderUuid;
         this.receiverUuid = receiverUuid;
         this.content = content;
         this.sentAt = sentAt;
+        this.seq = seq;
         this.read = read;
     }
 
     public static SendChatMessageResDto from(ChatMessage chatMessage) {
         return SendChatMessageResDto.builder()
                 .messageUuid(chatMessage.getMessageUuId())
+                .clientMessageId(chatMessage.getClientMessageId())
                 .chatRoomUuid(chatMessage.getChatRoomUuid())
                 .senderUuid(chatMessage.getSenderUuid())
                 .receiverUuid(chatMessage.getReceiverUuid())
                 .content(chatMessage.getContent())
                 .sentAt(chatMessage.getSentAt())
+                .seq(chatMessage.getSeq())
                 .read(chatMessage.isRead())
                 .build();
 
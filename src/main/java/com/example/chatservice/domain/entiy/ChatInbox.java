@@ -0,0 +1,62 @@
+package com.example.chatservice.domain.entiy;
+
+import com.example.chatservice.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 회원별 채팅방 목록(inbox) 조회용 projection
+ * - (회원, 채팅방)마다 한 행, activityAt(마지막 메시지 시각, 없으면 채팅방 생성 시각)은 항상 채워져 있다.
+ * - 채팅방 목록은 (member_uuid, activity_at, id) 인덱스 범위 스캔 한 번으로 조회한다.
+ * - activityAt 은 ms 단위로 저장한다. (목록 커서 정밀도)
+ */
+@Entity
+@Table(
+        name = "chat_inbox",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_chat_inbox_member_room", columnNames = {"member_uuid", "chat_room_uuid"}
+        ),
+        indexes = {
+                @Index(name = "idx_chat_inbox_member_activity", columnList = "member_uuid, activity_at, id"),
+                @Index(name = "idx_chat_inbox_room", columnList = "chat_room_uuid")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatInbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String memberUuid;
+
+    @Column(nullable = false)
+    private String chatRoomUuid;
+
+    @Column(nullable = false)
+    private LocalDateTime activityAt;
+
+    @Builder
+    public ChatInbox(String memberUuid, String chatRoomUuid, LocalDateTime activityAt) {
+        this.memberUuid = memberUuid;
+        this.chatRoomUuid = chatRoomUuid;
+        // 커서(KeysetCursor)가 ms 단위이므로 같은 정밀도로 저장해야 페이지 경계에서 누락/중복이 없다
+        this.activityAt = activityAt.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    public static ChatInbox of(String memberUuid, ChatRoom chatRoom, LocalDateTime activityAt) {
+        return ChatInbox.builder()
+                .memberUuid(memberUuid)
+                .chatRoomUuid(chatRoom.getChatRoomUuid())
+                .activityAt(activityAt)
+                .build();
+    }
+}
@@ -2,11 +2,21 @@ package com.example.chatservice.domain.entiy;
 
 import jakarta.persistence.Id;
 import lombok.*;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "chat_message")
+@CompoundIndex(name = "chat_room_sent_at_id", def = "{'chatRoomUuid': 1, 'sentAt': -1, '_id': -1}")
+@CompoundIndex(name = "chat_room_seq", def = "{'chatRoomUuid': 1, 'seq': 1}")
+@CompoundIndex(
+        name = "sender_client_message_id",
+        def = "{'senderUuid': 1, 'clientMessageId': 1}",
+        unique = true,
+        partialFilter = "{'clientMessageId': {$exists: true}}"
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage {
@@ -22,6 +32,12 @@ public class ChatMessage {
     private String content;
     private LocalDateTime sentAt;
 
+    // 보낸 사람 기준으로 unique (재전송 중복 저장 방지, 없으면 인덱스 대상 아님)
+    private String clientMessageId;
+
+    // 채팅방 안에서 단조 증가하는 순번 (재연결 후 놓친 메시지 조회용, 도입 이전 메시지는 null)
+    private Long seq;
+
     @Setter
     private boolean read;
 
@@ -29,7 +45,7 @@ public class ChatMessage {
     @Builder
     public ChatMessage(
             String messageUuId, String chatRoomUuid, String senderUuid, String receiverUuid, String content,
-            LocalDateTime sentAt,
+            LocalDateTime sentAt, String clientMessageId,
             boolean read
     ) {
         this.messageUuId = messageUuId;
@@ -38,6 +54,18 @@ public class ChatMessage {
         this.receiverUuid = receiverUuid;
         this.content = content;
         this.sentAt = sentAt;
+        this.clientMessageId = clientMessageId;
         this.read = read;
     }
+
+    // 일괄 insert 시에는 드라이버가 생성한 _id 가 엔티티에 채워지지 않으므로 미리 할당
+    public void assignIdIfAbsent() {
+        if (this.id == null) {
+            this.id = new ObjectId().toHexString();
+        }
+    }
+
+    public void assignSeq(long seq) {
+        this.seq = seq;
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.chatservice.domain.entiy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * (채팅방, 회원) 단위 읽음 위치
+ * - _id : {chatRoomUuid}:{memberUuid}
+ * - 해당 회원이 받은 메시지 중 sentAt 이 lastReadAt 이하인 메시지는 읽은 것으로 본다.
+ * - lastReadAt 은 $max 로만 갱신되므로 늦게 도착한 읽음 처리가 위치를 되돌리지 않는다.
+ */
+@Document(collection = "chat_read_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadWatermark {
+
+    @Id
+    private String id;
+
+    @Indexed
+    private String chatRoomUuid;
+    private String memberUuid;
+
+    private LocalDateTime lastReadAt;
+    private LocalDateTime updatedAt;
+
+    public static String idOf(String chatRoomUuid, String memberUuid) {
+        return chatRoomUuid + ":" + memberUuid;
+    }
+
+    public boolean covers(ChatMessage chatMessage) {
+        return lastReadAt != null && chatMessage.getSentAt() != null && !chatMessage.getSentAt().isAfter(lastReadAt);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "chat_room")
@@ -28,6 +29,10 @@ public class ChatRoom extends BaseEntity {
     @Column(nullable = false)
     private String participantBUuid;
 
+    // 참여자 UUID 를 정렬해 이어 붙인 키 (참여자 순서와 무관하게 같은 값) - 1:1 채팅방 중복 생성 방지용
+    @Column(unique = true)
+    private String participantPairKey;
+
     @Column(nullable = true, length = 255)
     private String lastMessage;
 
@@ -40,6 +45,24 @@ public class ChatRoom extends BaseEntity {
         this.chatRoomUuid = chatRoomUuid;
         this.participantAUuid = participantAUuid;
         this.participantBUuid = participantBUuid;
+        this.participantPairKey = pairKeyOf(participantAUuid, participantBUuid);
+    }
+
+    public static String pairKeyOf(String participantUuid1, String participantUuid2) {
+        return participantUuid1.compareTo(participantUuid2) <= 0
+                ? participantUuid1 + ":" + participantUuid2
+                : participantUuid2 + ":" + participantUuid1;
+    }
+
+    // 자기 자신과의 채팅방이면 한 명
+    public List<String> getParticipantUuids() {
+        return participantAUuid.equals(participantBUuid)
+                ? List.of(participantAUuid)
+                : List.of(participantAUuid, participantBUuid);
+    }
+
+    public void assignParticipantPairKey(String participantPairKey) {
+        this.participantPairKey = participantPairKey;
     }
 
     public void updateLastMessage(String message, LocalDateTime time) {
@@ -0,0 +1,27 @@
+package com.example.chatservice.domain.entiy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방별 메시지 순번 발급 위치
+ * - _id : chatRoomUuid
+ * - value : 지금까지 예약된 마지막 순번 (인스턴스는 $inc 로 구간을 한 번에 예약해서 메모리에서 발급)
+ * - inFlight : 여러 인스턴스 모드에서 발급됐지만 아직 저장이 끝나지 않은 순번 목록 ({seq, at}, ChatRoomSequenceAllocator 가 직접 갱신)
+ */
+@Document(collection = "chat_room_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatRoomSequence {
+
+    @Id
+    private String id;
+
+    private long value;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.example.chatservice.domain.entiy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * (채팅방, 회원) 단위로 미리 집계해 둔 안 읽은 메시지 수
+ * - _id : {chatRoomUuid}:{memberUuid}
+ */
+@Document(collection = "chat_unread_counter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatUnreadCounter {
+
+    @Id
+    private String id;
+
+    private String chatRoomUuid;
+    private String memberUuid;
+
+    private int count;
+    private LocalDateTime updatedAt;
+
+    public static String idOf(String chatRoomUuid, String memberUuid) {
+        return chatRoomUuid + ":" + memberUuid;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.common.response.CursorPage;
+import com.example.chatservice.domain.dto.in.ChatRoomListReqDto;
+import com.example.chatservice.domain.entiy.ChatInbox;
+
+public interface ChatInboxCustomRepository {
+    CursorPage<ChatInbox> findInboxWithCursor(String memberUuid, ChatRoomListReqDto chatRoomListReqDto);
+}
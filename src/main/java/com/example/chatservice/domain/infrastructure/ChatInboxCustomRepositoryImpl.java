@@ -0,0 +1,70 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.common.response.CursorPage;
+import com.example.chatservice.common.response.KeysetCursor;
+import com.example.chatservice.domain.dto.in.ChatRoomListReqDto;
+import com.example.chatservice.domain.entiy.ChatInbox;
+import com.example.chatservice.domain.entiy.QChatInbox;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ChatInboxCustomRepositoryImpl implements ChatInboxCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    @Override
+    public CursorPage<ChatInbox> findInboxWithCursor(String memberUuid, ChatRoomListReqDto chatRoomListReqDto) {
+        QChatInbox chatInbox = QChatInbox.chatInbox;
+
+        int size = (chatRoomListReqDto.getSize() != null)
+                ? chatRoomListReqDto.getSize()
+                : DEFAULT_PAGE_SIZE;
+
+        BooleanExpression condition = chatInbox.memberUuid.eq(memberUuid);
+
+        KeysetCursor cursor = KeysetCursor.decode(chatRoomListReqDto.getCursor());
+        if (cursor != null) {
+            LocalDateTime activityAt = cursor.time();
+            if (cursor.id() == null) {
+                condition = condition.and(chatInbox.activityAt.lt(activityAt));
+            } else {
+                // (activityAt, id) < (cursor.activityAt, cursor.id) 를 인덱스 범위 하나로 처리
+                condition = condition.and(chatInbox.activityAt.loe(activityAt))
+                        .and(chatInbox.activityAt.eq(activityAt)
+                                     .and(chatInbox.id.goe(cursor.longId()))
+                                     .not());
+            }
+        }
+
+        List<ChatInbox> result = queryFactory
+                .selectFrom(chatInbox)
+                .where(condition)
+                .orderBy(chatInbox.activityAt.desc(), chatInbox.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        if (hasNext) {
+            result = result.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            ChatInbox last = result.get(result.size() - 1);
+            nextCursor = KeysetCursor.of(last.getActivityAt(), String.valueOf(last.getId())).encode();
+        }
+
+        return CursorPage.of(result, hasNext, nextCursor);
+    }
+}
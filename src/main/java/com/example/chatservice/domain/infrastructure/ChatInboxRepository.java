@@ -0,0 +1,7 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.entiy.ChatInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ChatInboxRepository extends JpaRepository<ChatInbox, Long>, ChatInboxCustomRepository {
+}
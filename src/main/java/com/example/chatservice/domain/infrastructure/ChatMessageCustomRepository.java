@@ -4,10 +4,15 @@ import com.example.chatservice.common.response.CursorPage;
 import com.example.chatservice.domain.dto.in.ChatMessageReqDto;
 import com.example.chatservice.domain.entiy.ChatMessage;
 
+import java.util.List;
 import java.util.Map;
 
 public interface ChatMessageCustomRepository {
     Map<String, Integer> getUnreadMessageCountByChatRoom(String receiverUuid);
 
     CursorPage<ChatMessage> findChatMessagesByCursor(String chatRoomUuid, ChatMessageReqDto chatMessageReqDto);
+
+    List<ChatMessage> findChatMessagesAfterSeq(
+            Map<String, Long> lastSeqByChatRoom, Map<String, Long> seqLimitByChatRoom, int limit
+    );
 }
@@ -1,6 +1,7 @@
 package com.example.chatservice.domain.infrastructure;
 
 import com.example.chatservice.common.response.CursorPage;
+import com.example.chatservice.common.response.KeysetCursor;
 import com.example.chatservice.domain.dto.in.ChatMessageReqDto;
 import com.example.chatservice.domain.entiy.ChatMessage;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +18,6 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -57,34 +56,55 @@ public class ChatMessageCustomRepositoryImpl implements ChatMessageCustomReposit
     @Override
     public CursorPage<ChatMessage> findChatMessagesByCursor(String chatRoomUuid, ChatMessageReqDto chatMessageReqDto) {
         int size = chatMessageReqDto.getSize() != null ? chatMessageReqDto.getSize() : DEFAULT_PAGE_SIZE;
-        LocalDateTime cursor = chatMessageReqDto.getCursor();
+        KeysetCursor cursor = KeysetCursor.decode(chatMessageReqDto.getCursor());
         Criteria criteria = Criteria.where("chatRoomUuid").is(chatRoomUuid);
 
         if (cursor != null) {
-            criteria = criteria.and("sentAt").lt(chatMessageReqDto.getCursor());
+            LocalDateTime sentAt = cursor.time();
+            if (cursor.id() == null) {
+                criteria = criteria.and("sentAt").lt(sentAt);
+            } else {
+                // (sentAt, _id) < (cursor.sentAt, cursor.id) 를 인덱스 범위 하나로 처리
+                criteria = criteria.and("sentAt").lte(sentAt)
+                        .norOperator(Criteria.where("sentAt").is(sentAt).and("_id").gte(cursor.objectId()));
+            }
         }
 
-        log.info("cursor: {}", cursor);
         Query query = new Query(criteria)
-                .with(Sort.by(Sort.Direction.DESC, "sentAt"))
+                .with(Sort.by(Sort.Direction.DESC, "sentAt", "_id"))
                 .limit(size + 1);  // hasNext 판별 위해 +1
 
         List<ChatMessage> messages = mongoTemplate.find(query, ChatMessage.class);
+        return CursorPage.ofNewestFirst(
+                messages, size, last -> KeysetCursor.of(last.getSentAt(), last.getId()).encode()
+        );
+    }
 
-        boolean hasNext = messages.size() > size;
-        if (hasNext) messages = messages.subList(0, size);
-
-        String nextCursor = hasNext
-                ? messages.get(messages.size() - 1).getSentAt().toString()
-                : null;
-
-        List<ChatMessage> result = new ArrayList<>();
-        for (int i = messages.size() - 1; i >= 0 ; i--) {
-            result.add(messages.get(i));
+    /**
+     * 채팅방별 (chatRoomUuid = ?, seq > ? [, seq < 상한]) 조건을 $or 로 묶어 한 번에 조회 (chatRoomUuid, seq 오름차순)
+     * - 각 조건은 chat_room_seq 인덱스 범위 하나로 처리되고, 정렬은 인덱스 순서를 병합한다.
+     * - 상한(seqLimitByChatRoom)은 아직 저장 중인 순번으로, 그 뒤 메시지를 먼저 돌려주면 클라이언트가 빈 순번을 건너뛴다.
+     */
+    @Override
+    public List<ChatMessage> findChatMessagesAfterSeq(
+            Map<String, Long> lastSeqByChatRoom, Map<String, Long> seqLimitByChatRoom, int limit
+    ) {
+        if (lastSeqByChatRoom.isEmpty()) {
+            return List.of();
         }
 
+        Criteria[] conditions = lastSeqByChatRoom.entrySet().stream()
+                .map(entry -> {
+                    Criteria condition = Criteria.where("chatRoomUuid").is(entry.getKey()).and("seq").gt(entry.getValue());
+                    Long seqLimit = seqLimitByChatRoom.get(entry.getKey());
+                    return seqLimit != null ? condition.lt(seqLimit) : condition;
+                })
+                .toArray(Criteria[]::new);
 
+        Query query = new Query(new Criteria().orOperator(conditions))
+                .with(Sort.by(Sort.Direction.ASC, "chatRoomUuid", "seq"))
+                .limit(limit);
 
-        return CursorPage.of(result, hasNext, nextCursor);
+        return mongoTemplate.find(query, ChatMessage.class);
     }
 }
@@ -3,5 +3,9 @@ package com.example.chatservice.domain.infrastructure;
 import com.example.chatservice.domain.entiy.ChatMessage;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Optional;
+
 public interface ChatMessageRepository extends MongoRepository<ChatMessage, String>, ChatMessageCustomRepository {
+
+    Optional<ChatMessage> findBySenderUuidAndClientMessageId(String senderUuid, String clientMessageId);
 }
@@ -0,0 +1,22 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.entiy.ChatMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * chat_message 저장 전략
+ * - DirectChatMessageWriter : 메시지마다 즉시 저장 (기본)
+ * - GroupCommitChatMessageWriter : 큐에 모아 insertMany 로 일괄 저장 (chat.message.group-commit.enabled=true)
+ */
+public interface ChatMessageWriter {
+
+    CompletableFuture<ChatMessage> write(ChatMessage chatMessage);
+
+    /**
+     * 저장 완료가 write 호출 이후 비동기로 통지되는지 여부
+     */
+    default boolean acknowledgesAsynchronously() {
+        return false;
+    }
+}
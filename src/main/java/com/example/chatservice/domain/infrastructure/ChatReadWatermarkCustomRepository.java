@@ -0,0 +1,12 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
+
+import java.util.List;
+
+public interface ChatReadWatermarkCustomRepository {
+
+    void advanceAll(List<MarkMessageAsReadReqDto> dtos);
+
+    int migrateFromReadFlags();
+}
@@ -0,0 +1,111 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.example.chatservice.domain.entiy.ChatReadWatermark;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatReadWatermarkCustomRepositoryImpl implements ChatReadWatermarkCustomRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final int MIGRATION_BATCH_SIZE = 1000;
+
+    /**
+     * (채팅방, 회원)별 읽음 위치를 unordered bulk upsert 한 번으로 앞으로 옮긴다. (안 읽은 메시지 수와 무관하게 건당 O(1))
+     */
+    @Override
+    public void advanceAll(List<MarkMessageAsReadReqDto> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatReadWatermark.class);
+        for (MarkMessageAsReadReqDto dto : dtos) {
+            bulk.upsert(
+                    idQuery(dto.getChatRoomUuid(), dto.getReceiverUuid()),
+                    advance(dto.getChatRoomUuid(), dto.getReceiverUuid(), dto.getReadAt())
+            );
+        }
+        bulk.execute();
+    }
+
+    /**
+     * 기존 chat_message.read=true 데이터를 (채팅방, 수신자)별 가장 최근 sentAt 으로 집계해 읽음 위치로 옮긴다.
+     * - $max 로 반영하므로 이미 더 앞선 읽음 위치가 있으면 그대로 두고, 여러 번 실행해도 결과가 같다.
+     */
+    @Override
+    public int migrateFromReadFlags() {
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("read").is(true)),
+                group("chatRoomUuid", "receiverUuid").max("sentAt").as("lastReadAt")
+        ).withOptions(newAggregationOptions().allowDiskUse(true).build());
+
+        int written = 0;
+        int pending = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatReadWatermark.class);
+
+        try (Stream<Document> results = mongoTemplate.aggregateStream(
+                aggregation, mongoTemplate.getCollectionName(ChatMessage.class), Document.class)) {
+            Iterator<Document> iterator = results.iterator();
+            while (iterator.hasNext()) {
+                Document doc = iterator.next();
+                Document key = doc.get("_id", Document.class);
+                String chatRoomUuid = key.getString("chatRoomUuid");
+                String memberUuid = key.getString("receiverUuid");
+                Date lastReadAt = doc.getDate("lastReadAt");
+                if (chatRoomUuid == null || memberUuid == null || lastReadAt == null) {
+                    continue;
+                }
+
+                bulk.upsert(
+                        idQuery(chatRoomUuid, memberUuid),
+                        advance(chatRoomUuid, memberUuid, LocalDateTime.ofInstant(lastReadAt.toInstant(), ZoneId.systemDefault()))
+                );
+                if (++pending == MIGRATION_BATCH_SIZE) {
+                    bulk.execute();
+                    written += pending;
+                    pending = 0;
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatReadWatermark.class);
+                }
+            }
+        }
+
+        if (pending > 0) {
+            bulk.execute();
+            written += pending;
+        }
+        return written;
+    }
+
+    private static Query idQuery(String chatRoomUuid, String memberUuid) {
+        return new Query(Criteria.where("_id").is(ChatReadWatermark.idOf(chatRoomUuid, memberUuid)));
+    }
+
+    private static Update advance(String chatRoomUuid, String memberUuid, LocalDateTime readAt) {
+        return new Update()
+                .max("lastReadAt", readAt)
+                .set("updatedAt", LocalDateTime.now())
+                .setOnInsert("chatRoomUuid", chatRoomUuid)
+                .setOnInsert("memberUuid", memberUuid);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.entiy.ChatReadWatermark;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatReadWatermarkRepository
+        extends MongoRepository<ChatReadWatermark, String>, ChatReadWatermarkCustomRepository {
+
+    List<ChatReadWatermark> findAllByChatRoomUuid(String chatRoomUuid);
+
+    List<ChatReadWatermark> findAllByChatRoomUuidIn(Collection<String> chatRoomUuids);
+}
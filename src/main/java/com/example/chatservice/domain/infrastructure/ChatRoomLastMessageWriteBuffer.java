@@ -0,0 +1,182 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.common.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 마지막 메시지(lastMessage, lastMessageTime) write-behind 버퍼 (chat_inbox.activity_at 포함)
+ * - 채팅방별로 가장 최신 값 하나만 유지하고, 주기적으로 JDBC batch UPDATE 로 한 번에 반영한다.
+ * - 메시지 전송 경로에서 chat_room SELECT + UPDATE 를 제거하기 위함
+ * - 반영한 메시지를 보낸 회원은 read-your-writes 대상으로 기록한다. (replica 사용 시, 보낸 직후 목록 조회가 primary 로 가도록)
+ * - chat_room.last_message 컬럼(255자)을 넘는 내용은 넣을 때 잘라서, 매 주기 실패하다 버려지지 않게 한다.
+ */
+@Slf4j
+@Component
+public class ChatRoomLastMessageWriteBuffer {
+
+    // 늦게 도착한 flush 가 더 최신 값을 덮어쓰지 않도록 시간 조건을 건다
+    private static final String UPDATE_LAST_MESSAGE_SQL = """
+            UPDATE chat_room
+               SET last_message = ?, last_message_time = ?, updated_at = ?
+             WHERE chat_room_uuid = ?
+               AND (last_message_time IS NULL OR last_message_time <= ?)
+            """;
+
+    // 두 참여자의 inbox 정렬 키도 같은 주기에 함께 갱신
+    private static final String UPDATE_INBOX_ACTIVITY_SQL = """
+            UPDATE chat_inbox
+               SET activity_at = ?, updated_at = ?
+             WHERE chat_room_uuid = ?
+               AND activity_at < ?
+            """;
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    static final int LAST_MESSAGE_MAX_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final ConcurrentHashMap<String, LastMessage> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    private final Timer flushTimer;
+
+    public ChatRoomLastMessageWriteBuffer(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.flushTimer = Timer.builder("chat.room.last-message.flush")
+                .description("chat_room 마지막 메시지 batch UPDATE 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("chat.room.last-message.buffer.size", pending, Map::size)
+                .description("반영 대기 중인 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    public void enqueue(String chatRoomUuid, String senderUuid, String message, LocalDateTime time) {
+        pending.merge(chatRoomUuid, new LastMessage(senderUuid, truncate(message), time, 0), LastMessage::newer);
+    }
+
+    // 서로게이트 쌍(이모지 등)이 잘리지 않도록 code point 기준으로 자른다 (utf8mb4 VARCHAR 길이도 code point 기준)
+    static String truncate(String message) {
+        if (message == null || message.length() <= LAST_MESSAGE_MAX_LENGTH) {
+            return message;
+        }
+        int codePoints = message.codePointCount(0, message.length());
+        if (codePoints <= LAST_MESSAGE_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, message.offsetByCodePoints(0, LAST_MESSAGE_MAX_LENGTH));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.room.last-message.flush-interval-ms:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        synchronized (flushLock) {
+            List<String> chatRoomUuids = new ArrayList<>(pending.size());
+            List<LastMessage> batch = new ArrayList<>(pending.size());
+            List<Object[]> batchArgs = new ArrayList<>(pending.size());
+            List<Object[]> inboxBatchArgs = new ArrayList<>(pending.size());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            for (String chatRoomUuid : pending.keySet()) {
+                LastMessage lastMessage = pending.remove(chatRoomUuid);
+                if (lastMessage == null) {
+                    continue;
+                }
+                Timestamp time = Timestamp.valueOf(lastMessage.time());
+                chatRoomUuids.add(chatRoomUuid);
+                batch.add(lastMessage);
+                batchArgs.add(new Object[]{lastMessage.message(), time, now, chatRoomUuid, time});
+                // chat_inbox.activity_at 은 목록 커서와 같은 ms 정밀도로 저장
+                Timestamp activityAt = Timestamp.valueOf(lastMessage.time().truncatedTo(ChronoUnit.MILLIS));
+                inboxBatchArgs.add(new Object[]{activityAt, now, chatRoomUuid, activityAt});
+            }
+
+            if (batchArgs.isEmpty()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, batchArgs);
+                jdbcTemplate.batchUpdate(UPDATE_INBOX_ACTIVITY_SQL, inboxBatchArgs);
+                batch.forEach(this::markWriter);
+            } catch (DataAccessException e) {
+                // 한 행 때문에 전체가 막히지 않도록 행 단위로 다시 반영
+                log.warn("chat_room 마지막 메시지 batch 반영 실패, 행 단위로 재시도: {}건", batchArgs.size(), e);
+                for (int i = 0; i < chatRoomUuids.size(); i++) {
+                    updateOne(chatRoomUuids.get(i), batch.get(i), batchArgs.get(i), inboxBatchArgs.get(i));
+                }
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // 실패한 값은 다시 버퍼에 넣어 다음 주기에 재시도 (그 사이 들어온 더 최신 값이 우선), MAX_ATTEMPTS 번 실패하면 버린다
+    private void updateOne(String chatRoomUuid, LastMessage lastMessage, Object[] args, Object[] inboxArgs) {
+        try {
+            jdbcTemplate.update(UPDATE_LAST_MESSAGE_SQL, args);
+            jdbcTemplate.update(UPDATE_INBOX_ACTIVITY_SQL, inboxArgs);
+            markWriter(lastMessage);
+        } catch (DataAccessException e) {
+            if (lastMessage.attempts() + 1 >= MAX_ATTEMPTS) {
+                log.error("chat_room 마지막 메시지 반영 {}회 실패로 버림: {}", MAX_ATTEMPTS, chatRoomUuid, e);
+                return;
+            }
+            log.warn("chat_room 마지막 메시지 반영 실패 ({}회): {}", lastMessage.attempts() + 1, chatRoomUuid, e);
+            pending.merge(chatRoomUuid, lastMessage.retried(), LastMessage::newer);
+        }
+    }
+
+    private void markWriter(LastMessage lastMessage) {
+        replicaRoutingDataSource.ifAvailable(dataSource -> dataSource.markWriter(lastMessage.senderUuid()));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info(">>> 종료 전 채팅방 마지막 메시지 반영: {}건", pending.size());
+        flush();
+    }
+
+    private record LastMessage(String senderUuid, String message, LocalDateTime time, int attempts) {
+
+        private LastMessage retried() {
+            return new LastMessage(senderUuid, message, time, attempts + 1);
+        }
+
+        // 시간이 같으면 재시도 횟수가 적은 쪽 (새로 들어온 값은 0회)
+        private static LastMessage newer(LastMessage previous, LastMessage current) {
+            if (current.time().equals(previous.time())) {
+                return current.attempts() <= previous.attempts() ? current : previous;
+            }
+            return current.time().isBefore(previous.time()) ? previous : current;
+        }
+    }
+}
@@ -1,24 +1,50 @@
 package com.example.chatservice.domain.infrastructure;
 
 import com.example.chatservice.domain.entiy.ChatRoom;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomCustomRepository {
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
-    @Query(
-            "SELECT r FROM ChatRoom r WHERE " +
-                    "(r.participantAUuid = :user1 AND r.participantBUuid = :user2) OR " +
-                    "(r.participantAUuid = :user2 AND r.participantBUuid = :user1)"
-    )
-    Optional<ChatRoom> findByParticipants(@Param("user1") String user1, @Param("user2") String user2);
+    Optional<ChatRoom> findByParticipantPairKey(String participantPairKey);
+
+    // 쌍 키로 찾지 못하면 아직 쌍 키를 채우지 않은 기존 채팅방에서 찾는다 (backfill 전 중복 생성 방지)
+    default Optional<ChatRoom> findByParticipants(String user1, String user2) {
+        Optional<ChatRoom> room = findByParticipantPairKey(ChatRoom.pairKeyOf(user1, user2));
+        if (room.isPresent()) {
+            return room;
+        }
+        return findLegacyByParticipants(user1, user2, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    // participant_pair_key IS NULL 행만 보므로 backfill 이 끝난 뒤에는 unique 인덱스에서 바로 끝난다
+    @Query("SELECT r FROM ChatRoom r WHERE r.participantPairKey IS NULL AND " +
+            "((r.participantAUuid = :user1 AND r.participantBUuid = :user2) OR " +
+            "(r.participantAUuid = :user2 AND r.participantBUuid = :user1)) ORDER BY r.id")
+    List<ChatRoom> findLegacyByParticipants(
+            @Param("user1") String user1, @Param("user2") String user2, Pageable pageable
+    );
+
+    List<ChatRoom> findTop500ByParticipantPairKeyIsNullOrderByIdAsc();
+
+    List<ChatRoom> findAllByParticipantPairKeyIn(Collection<String> participantPairKeys);
 
     Optional<ChatRoom> findByChatRoomUuid(String chatRoomUuid);
 
+    List<ChatRoom> findAllByChatRoomUuidIn(Collection<String> chatRoomUuids);
+
+    // chat_inbox 가 없는 기존 채팅방 (id 순으로 나눠서 조회)
+    @Query("SELECT r FROM ChatRoom r WHERE r.id > :lastId AND NOT EXISTS " +
+            "(SELECT i.id FROM ChatInbox i WHERE i.chatRoomUuid = r.chatRoomUuid) ORDER BY r.id")
+    List<ChatRoom> findWithoutInbox(@Param("lastId") Long lastId, Pageable pageable);
+
     @Query("SELECT c FROM ChatRoom c WHERE c.participantAUuid = :uuid OR c.participantBUuid = :uuid")
     List<ChatRoom> findAllByParticipantUuid(@Param("uuid") String memberUuid);
 }
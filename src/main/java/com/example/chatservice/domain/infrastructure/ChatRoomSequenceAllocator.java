@@ -0,0 +1,222 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.entiy.ChatRoomSequence;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 채팅방별 메시지 순번(seq) 발급
+ * - 순번은 저장 전에 발급되므로 저장 완료 순서가 순번 순서와 다를 수 있다.
+ *   저장 중인 순번(in-flight)을 기록해 두고, 놓친 메시지 조회는 가장 작은 in-flight 순번 앞에서 멈춘다. (inFlightFloor)
+ *
+ * 단일 인스턴스 (chat.cluster.bus=local)
+ * - chat_room_sequence 에서 block-size 만큼의 구간을 $inc 한 번으로 예약하고, 구간 안에서는 메모리에서 발급한다.
+ *   (메시지마다 MongoDB 를 왕복하지 않음, 재시작이나 캐시 제거 시 남은 구간은 버려지므로 순번은 연속적이지 않다)
+ * - 모든 순번이 이 인스턴스에서 발급되므로 in-flight 도 메모리로 충분하고, 놓친 메시지 조회는 빠짐없이 정확하다.
+ *
+ * 여러 인스턴스 (chat.cluster.bus != local)
+ * - 인스턴스별 구간을 쓰면 다른 인스턴스가 아직 저장 중인 더 작은 순번을 건너뛸 수 있으므로, 메시지마다
+ *   chat_room_sequence 에서 $inc 1 로 발급하고 같은 원자적 갱신으로 inFlight 배열에 (seq, 발급 시각)을 기록한다.
+ *   저장이 끝나면 inFlight 에서 제거하고, 놓친 메시지 조회는 모든 인스턴스의 in-flight 중 가장 작은 순번 앞에서 멈춘다.
+ * - 보장 범위: 발급 후 in-flight-timeout-ms 안에 저장이 끝나거나(성공, 실패) 해제되는 메시지는 빠짐없이 조회된다.
+ *   인스턴스가 죽어 해제되지 못한 순번은 그 시간이 지나면 무시되므로, 그보다 늦게 저장된 메시지는 놓칠 수 있다.
+ *   (시각 비교는 인스턴스 시계 기준이라 시계 차이만큼 오차가 있다)
+ */
+@Component
+public class ChatRoomSequenceAllocator {
+
+    private static final String COLLECTION = "chat_room_sequence";
+
+    private final MongoTemplate mongoTemplate;
+    private final int blockSize;
+    private final boolean shared;
+    private final long inFlightTimeoutMillis;
+    private final Cache<String, SequenceBlock> blocks;
+    private final Counter reservationCounter;
+
+    public ChatRoomSequenceAllocator(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.message.sequence.block-size:100}") int blockSize,
+            @Value("${chat.message.sequence.max-rooms:100000}") long maxRooms,
+            @Value("${chat.message.sequence.in-flight-timeout-ms:30000}") long inFlightTimeoutMillis,
+            @Value("${chat.cluster.bus:local}") String clusterBus
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.blockSize = blockSize;
+        this.shared = !"local".equals(clusterBus);
+        this.inFlightTimeoutMillis = inFlightTimeoutMillis;
+        this.blocks = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.reservationCounter = Counter.builder("chat.message.sequence.reservations")
+                .description("chat_room_sequence 구간 예약 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다음 순번을 발급하고 in-flight 로 기록한다. 저장이 끝나면(성공, 실패 모두) release 해야 한다.
+     */
+    public long next(String chatRoomUuid) {
+        if (shared) {
+            return reserveShared(chatRoomUuid);
+        }
+        SequenceBlock block = blocks.get(chatRoomUuid, key -> new SequenceBlock());
+        // 같은 채팅방끼리만 직렬화 (제거된 블록을 다른 스레드가 쓰고 있어도 예약 구간은 겹치지 않음)
+        synchronized (block) {
+            if (block.next > block.last) {
+                block.last = reserve(chatRoomUuid);
+                block.next = block.last - blockSize + 1;
+            }
+            long seq = block.next++;
+            block.inFlight.add(seq);
+            return seq;
+        }
+    }
+
+    public void release(String chatRoomUuid, long seq) {
+        if (shared) {
+            releaseShared(chatRoomUuid, seq);
+            return;
+        }
+        SequenceBlock block = blocks.getIfPresent(chatRoomUuid);
+        if (block == null) {
+            return;
+        }
+        synchronized (block) {
+            block.inFlight.remove(seq);
+        }
+    }
+
+    /**
+     * 저장 중인 순번 중 afterSeq 보다 큰 가장 작은 값 (없으면 Long.MAX_VALUE)
+     * - afterSeq 이하는 클라이언트가 이미 받은 순번이므로(group-commit 은 저장 전에 브로드캐스트) 조회를 막지 않는다.
+     * - 여러 인스턴스 모드에서는 chat_room_sequence 의 inFlight 를 읽어 모든 인스턴스 기준으로 계산한다.
+     */
+    public long inFlightFloor(String chatRoomUuid, long afterSeq) {
+        if (shared) {
+            return sharedInFlightFloor(chatRoomUuid, afterSeq);
+        }
+        SequenceBlock block = blocks.getIfPresent(chatRoomUuid);
+        if (block == null) {
+            return Long.MAX_VALUE;
+        }
+        synchronized (block) {
+            Long floor = block.inFlight.higher(afterSeq);
+            return floor != null ? floor : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 seq 를 저장했으면 그보다 작은 남은 구간은 버린다. (다음 발급 때 새 구간 예약)
+     */
+    public void fence(String chatRoomUuid, long seq) {
+        SequenceBlock block = blocks.getIfPresent(chatRoomUuid);
+        if (block == null) {
+            return;
+        }
+        synchronized (block) {
+            if (block.next <= seq && block.next <= block.last) {
+                block.next = block.last + 1;
+            }
+        }
+    }
+
+    private long reserve(String chatRoomUuid) {
+        Query query = new Query(Criteria.where("_id").is(chatRoomUuid));
+        Update update = new Update()
+                .inc("value", blockSize)
+                .set("updatedAt", LocalDateTime.now());
+
+        ChatRoomSequence sequence = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().upsert(true).returnNew(true), ChatRoomSequence.class
+        );
+        reservationCounter.increment();
+        if (sequence == null) {
+            throw new IllegalStateException("채팅방 순번 예약 실패: " + chatRoomUuid);
+        }
+        return sequence.getValue();
+    }
+
+    // value 를 1 올리면서 같은 갱신에서 새 순번을 inFlight 에 넣는다 (발급과 in-flight 기록 사이에 조회가 끼어들지 않도록)
+    private long reserveShared(String chatRoomUuid) {
+        Document nextValue = new Document("$add", List.of(new Document("$ifNull", List.of("$value", 0L)), 1L));
+        Document inFlight = new Document("$concatArrays", List.of(
+                new Document("$ifNull", List.of("$inFlight", List.of())),
+                List.of(new Document("seq", nextValue).append("at", "$$NOW"))
+        ));
+        AggregationUpdate update = AggregationUpdate.from(List.of(context -> new Document("$set",
+                new Document("value", nextValue)
+                        .append("inFlight", inFlight)
+                        .append("updatedAt", "$$NOW"))));
+
+        ChatRoomSequence sequence = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(chatRoomUuid)), update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), ChatRoomSequence.class
+        );
+        reservationCounter.increment();
+        if (sequence == null) {
+            throw new IllegalStateException("채팅방 순번 예약 실패: " + chatRoomUuid);
+        }
+        return sequence.getValue();
+    }
+
+    // 해제하면서 죽은 인스턴스가 남긴 오래된 항목도 함께 정리
+    private void releaseShared(String chatRoomUuid, long seq) {
+        Date staleBefore = new Date(System.currentTimeMillis() - inFlightTimeoutMillis);
+        Document condition = new Document("$or", List.of(
+                new Document("seq", seq),
+                new Document("at", new Document("$lt", staleBefore))
+        ));
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(chatRoomUuid)),
+                Update.fromDocument(new Document("$pull", new Document("inFlight", condition))),
+                COLLECTION
+        );
+    }
+
+    private long sharedInFlightFloor(String chatRoomUuid, long afterSeq) {
+        Query query = new Query(Criteria.where("_id").is(chatRoomUuid));
+        query.fields().include("inFlight");
+        Document sequence = mongoTemplate.findOne(query, Document.class, COLLECTION);
+        if (sequence == null) {
+            return Long.MAX_VALUE;
+        }
+
+        long staleBefore = System.currentTimeMillis() - inFlightTimeoutMillis;
+        long floor = Long.MAX_VALUE;
+        for (Document entry : sequence.getList("inFlight", Document.class, List.of())) {
+            long seq = ((Number) entry.get("seq")).longValue();
+            Date at = entry.getDate("at");
+            if (seq > afterSeq && seq < floor && at != null && at.getTime() >= staleBefore) {
+                floor = seq;
+            }
+        }
+        return floor;
+    }
+
+    // [next, last] 가 아직 발급하지 않은 구간, inFlight 는 발급했지만 아직 저장이 끝나지 않은 순번
+    private static final class SequenceBlock {
+        private long next = 1;
+        private long last = 0;
+        private final TreeSet<Long> inFlight = new TreeSet<>();
+    }
+}
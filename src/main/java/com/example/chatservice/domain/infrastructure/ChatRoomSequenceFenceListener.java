@@ -0,0 +1,29 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.common.cluster.ClusterEvent;
+import com.example.chatservice.common.cluster.ClusterEventListener;
+import com.example.chatservice.domain.infrastructure.cache.ChatCacheClusterEventListener;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스가 저장한 메시지의 순번보다 작은 로컬 순번 구간을 버린다. (ChatRoomSequenceAllocator.fence)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSequenceFenceListener implements ClusterEventListener {
+
+    private final ChatRoomSequenceAllocator chatRoomSequenceAllocator;
+
+    @Override
+    public void onRemoteEvent(ClusterEvent event) {
+        if (!ChatCacheClusterEventListener.MESSAGE_PERSISTED.equals(event.type())) {
+            return;
+        }
+        JsonNode seq = event.payload().get("seq");
+        if (seq != null && seq.canConvertToLong()) {
+            chatRoomSequenceAllocator.fence(event.chatRoomUuid(), seq.asLong());
+        }
+    }
+}
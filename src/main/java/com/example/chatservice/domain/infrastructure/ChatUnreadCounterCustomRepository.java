@@ -0,0 +1,18 @@
+package com.example.chatservice.domain.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+public interface ChatUnreadCounterCustomRepository {
+
+    int increment(String chatRoomUuid, String memberUuid);
+
+    void reset(String chatRoomUuid, String memberUuid);
+
+    int recountAfter(String chatRoomUuid, String memberUuid, LocalDateTime readAt);
+
+    Map<String, Integer> findCountsByChatRoomUuids(String memberUuid, Collection<String> chatRoomUuids);
+
+    int rebuildFromChatMessages(LocalDateTime startedAt);
+}
@@ -0,0 +1,182 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.example.chatservice.domain.entiy.ChatReadWatermark;
+import com.example.chatservice.domain.entiy.ChatUnreadCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ChatUnreadCounterCustomRepositoryImpl implements ChatUnreadCounterCustomRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    @Override
+    public int increment(String chatRoomUuid, String memberUuid) {
+        Query query = new Query(Criteria.where("_id").is(ChatUnreadCounter.idOf(chatRoomUuid, memberUuid)));
+        Update update = new Update()
+                .inc("count", 1)
+                .set("updatedAt", LocalDateTime.now())
+                .setOnInsert("chatRoomUuid", chatRoomUuid)
+                .setOnInsert("memberUuid", memberUuid);
+
+        ChatUnreadCounter counter = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().upsert(true).returnNew(true), ChatUnreadCounter.class
+        );
+        return counter != null ? counter.getCount() : 0;
+    }
+
+    @Override
+    public void reset(String chatRoomUuid, String memberUuid) {
+        Query query = new Query(Criteria.where("_id").is(ChatUnreadCounter.idOf(chatRoomUuid, memberUuid)));
+        Update update = new Update()
+                .set("count", 0)
+                .set("updatedAt", LocalDateTime.now())
+                .setOnInsert("chatRoomUuid", chatRoomUuid)
+                .setOnInsert("memberUuid", memberUuid);
+
+        mongoTemplate.upsert(query, update, ChatUnreadCounter.class);
+    }
+
+    /**
+     * readAt 이후에 받은 메시지 수로 카운터를 덮어쓴다. (읽은 위치가 채팅방의 마지막 메시지보다 앞일 때만 호출)
+     * - chat_room_sent_at_id 인덱스로 읽은 위치 뒤쪽만 센다.
+     */
+    @Override
+    public int recountAfter(String chatRoomUuid, String memberUuid, LocalDateTime readAt) {
+        Query unread = new Query(Criteria.where("chatRoomUuid").is(chatRoomUuid)
+                .and("sentAt").gt(readAt)
+                .and("receiverUuid").is(memberUuid));
+        int count = (int) mongoTemplate.count(unread, ChatMessage.class);
+
+        Query query = new Query(Criteria.where("_id").is(ChatUnreadCounter.idOf(chatRoomUuid, memberUuid)));
+        Update update = new Update()
+                .set("count", count)
+                .set("updatedAt", LocalDateTime.now())
+                .setOnInsert("chatRoomUuid", chatRoomUuid)
+                .setOnInsert("memberUuid", memberUuid);
+
+        mongoTemplate.upsert(query, update, ChatUnreadCounter.class);
+        return count;
+    }
+
+    @Override
+    public Map<String, Integer> findCountsByChatRoomUuids(String memberUuid, Collection<String> chatRoomUuids) {
+        if (chatRoomUuids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> ids = chatRoomUuids.stream()
+                .map(chatRoomUuid -> ChatUnreadCounter.idOf(chatRoomUuid, memberUuid))
+                .toList();
+
+        Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().include("chatRoomUuid", "count");
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (ChatUnreadCounter counter : mongoTemplate.find(query, ChatUnreadCounter.class)) {
+            counts.put(counter.getChatRoomUuid(), counter.getCount());
+        }
+        return counts;
+    }
+
+    /**
+     * chat_message 의 안 읽은 메시지를 (채팅방, 수신자) 단위로 다시 집계해 카운터를 덮어쓴다.
+     * - 안 읽은 메시지: read 플래그가 false 이고 수신자의 읽음 위치(chat_read_watermark)보다 나중에 보낸 메시지
+     * 집계 결과에 없는(모두 읽은) 카운터는 startedAt 이전에 갱신된 것만 0 으로 정리한다.
+     */
+    @Override
+    public int rebuildFromChatMessages(LocalDateTime startedAt) {
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("read").is(false)),
+                // 읽음 위치 _id({chatRoomUuid}:{memberUuid})로 조인
+                context -> new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(ChatReadWatermark.class))
+                        .append("let", new Document("watermarkId",
+                                new Document("$concat", List.of("$chatRoomUuid", ":", "$receiverUuid"))))
+                        .append("pipeline", List.of(
+                                new Document("$match", new Document("$expr",
+                                        new Document("$eq", List.of("$_id", "$$watermarkId")))),
+                                new Document("$project", new Document("_id", 0).append("lastReadAt", 1))
+                        ))
+                        .append("as", "watermark")),
+                context -> new Document("$match", new Document("$expr", new Document("$gt", List.of(
+                        "$sentAt",
+                        new Document("$ifNull", List.of(
+                                new Document("$arrayElemAt", List.of("$watermark.lastReadAt", 0)), new Date(0)
+                        ))
+                )))),
+                group("chatRoomUuid", "receiverUuid").count().as("count")
+        ).withOptions(newAggregationOptions().allowDiskUse(true).build());
+
+        int written = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatUnreadCounter.class);
+        int pending = 0;
+
+        try (Stream<Document> results = mongoTemplate.aggregateStream(
+                aggregation, mongoTemplate.getCollectionName(ChatMessage.class), Document.class)) {
+            Iterator<Document> iterator = results.iterator();
+            while (iterator.hasNext()) {
+                Document doc = iterator.next();
+                Document key = doc.get("_id", Document.class);
+                String chatRoomUuid = key.getString("chatRoomUuid");
+                String memberUuid = key.getString("receiverUuid");
+                if (chatRoomUuid == null || memberUuid == null) {
+                    continue;
+                }
+
+                bulk.upsert(
+                        new Query(Criteria.where("_id").is(ChatUnreadCounter.idOf(chatRoomUuid, memberUuid))),
+                        new Update()
+                                .set("chatRoomUuid", chatRoomUuid)
+                                .set("memberUuid", memberUuid)
+                                .set("count", doc.get("count", Number.class).intValue())
+                                .set("updatedAt", LocalDateTime.now())
+                );
+
+                if (++pending == REBUILD_BATCH_SIZE) {
+                    bulk.execute();
+                    written += pending;
+                    pending = 0;
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatUnreadCounter.class);
+                }
+            }
+        }
+
+        if (pending > 0) {
+            bulk.execute();
+            written += pending;
+        }
+
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("updatedAt").lt(startedAt).and("count").gt(0)),
+                new Update().set("count", 0).set("updatedAt", LocalDateTime.now()),
+                ChatUnreadCounter.class
+        );
+
+        return written;
+    }
+}
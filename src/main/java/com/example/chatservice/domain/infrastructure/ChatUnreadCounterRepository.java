@@ -0,0 +1,8 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.entiy.ChatUnreadCounter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ChatUnreadCounterRepository
+        extends MongoRepository<ChatUnreadCounter, String>, ChatUnreadCounterCustomRepository {
+}
@@ -0,0 +1,21 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.domain.entiy.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.message.group-commit.enabled", havingValue = "false", matchIfMissing = true)
+public class DirectChatMessageWriter implements ChatMessageWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Override
+    public CompletableFuture<ChatMessage> write(ChatMessage chatMessage) {
+        return CompletableFuture.completedFuture(chatMessageRepository.save(chatMessage));
+    }
+}
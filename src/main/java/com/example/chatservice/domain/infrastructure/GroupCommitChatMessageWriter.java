@@ -0,0 +1,248 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.common.exception.BaseException;
+import com.example.chatservice.common.response.BaseResponseStatus;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * chat_message group-commit 저장기
+ * - 전송 요청은 bounded 큐에 쌓이고, 전용 writer 스레드가 개수(max-batch-size) 또는 대기 시간(max-delay-ms)
+ *   기준으로 모아 unordered insertMany 한 번으로 저장한다.
+ * - 큐가 가득 차면 offer-timeout-ms 동안 호출 스레드를 붙잡아 두고, 그래도 자리가 없으면 CHAT_MESSAGE_QUEUE_FULL
+ *   예외로 보낸 사람에게 그대로 전달한다. (메모리가 무한히 늘어나지 않도록)
+ * - 저장 완료 후속 처리 큐도 같은 크기로 제한하고, 가득 차면 writer 스레드가 직접 실행한다.
+ *   (후속 처리가 밀리면 writer 가 느려지고, 결국 저장 큐가 차서 보낸 쪽으로 backpressure 가 전달된다)
+ * - 종료가 시작된 뒤에는 쓰기를 받지 않고, 끝까지 저장되지 못한 요청은 CHAT_MESSAGE_QUEUE_FULL 로 실패 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.message.group-commit.enabled", havingValue = "true")
+public class GroupCommitChatMessageWriter implements ChatMessageWriter {
+
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutMillis;
+
+    // 저장 완료 후속 처리(카운터 갱신, 수신 확인 전송)가 writer 스레드를 붙잡지 않도록 분리
+    private final ThreadPoolTaskExecutor completionExecutor;
+
+    private final Timer commitTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    // write 의 (running 확인 + 큐 적재)와 stop 의 종료 표시가 엇갈리지 않도록 묶는다
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public GroupCommitChatMessageWriter(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.message.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.message.group-commit.max-batch-size:200}") int maxBatchSize,
+            @Value("${chat.message.group-commit.max-delay-ms:5}") long maxDelayMillis,
+            @Value("${chat.message.group-commit.offer-timeout-ms:100}") long offerTimeoutMillis
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        this.completionExecutor = new ThreadPoolTaskExecutor();
+        this.completionExecutor.setCorePoolSize(4);
+        this.completionExecutor.setMaxPoolSize(4);
+        this.completionExecutor.setQueueCapacity(queueCapacity);
+        // CallerRunsPolicy 는 종료 후 작업을 버리므로, 종료 중에도 future 가 완료되도록 항상 호출 스레드에서 실행
+        this.completionExecutor.setRejectedExecutionHandler((task, executor) -> task.run());
+        this.completionExecutor.setThreadNamePrefix("chat-message-ack-");
+        this.completionExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        this.completionExecutor.initialize();
+
+        this.commitTimer = Timer.builder("chat.message.group-commit.commit")
+                .description("chat_message insertMany 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.message.group-commit.batch.size")
+                .description("insertMany 한 번에 저장된 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.message.group-commit.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.message.group-commit.completion.queue.size", completionExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("저장 완료 후속 처리 대기 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "chat-message-group-commit");
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 제한 시간 안에 저장하지 못한 요청은 응답 없이 남지 않도록 실패 처리
+        List<PendingWrite> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        if (!abandoned.isEmpty()) {
+            log.error("종료 시 저장하지 못한 chat_message {}건 실패 처리", abandoned.size());
+            BaseException cause = new BaseException(BaseResponseStatus.CHAT_MESSAGE_QUEUE_FULL);
+            abandoned.forEach(pendingWrite -> pendingWrite.future().completeExceptionally(cause));
+        }
+        completionExecutor.shutdown();
+    }
+
+    @Override
+    public CompletableFuture<ChatMessage> write(ChatMessage chatMessage) {
+        PendingWrite pendingWrite = new PendingWrite(chatMessage, new CompletableFuture<>());
+        shutdownLock.readLock().lock();
+        try {
+            if (!running || !queue.offer(pendingWrite, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new BaseException(BaseResponseStatus.CHAT_MESSAGE_QUEUE_FULL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.CHAT_MESSAGE_QUEUE_FULL);
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+        return pendingWrite.future();
+    }
+
+    @Override
+    public boolean acknowledgesAsynchronously() {
+        return true;
+    }
+
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        // 종료 요청 후에도 큐에 남은 메시지는 모두 저장하고 끝낸다
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("chat_message group-commit 처리 중 오류", e);
+                fail(batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        List<ChatMessage> messages = new ArrayList<>(batch.size());
+        for (PendingWrite pendingWrite : batch) {
+            pendingWrite.message().assignIdIfAbsent();
+            messages.add(pendingWrite.message());
+        }
+
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(messages)
+                    .execute();
+            complete(batch, Map.of());
+        } catch (BulkOperationException e) {
+            // unordered 이므로 실패한 문서를 제외한 나머지는 저장되어 있다
+            Map<Integer, BulkWriteError> errors = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), error);
+            }
+            log.error("chat_message 일괄 저장 중 {}건 실패", errors.size());
+            complete(batch, errors);
+        } finally {
+            commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    private void complete(List<PendingWrite> batch, Map<Integer, BulkWriteError> errors) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingWrite pendingWrite = batch.get(i);
+            BulkWriteError error = errors.get(i);
+            if (error == null) {
+                completionExecutor.execute(() -> pendingWrite.future().complete(pendingWrite.message()));
+            } else if (error.getCode() == DUPLICATE_KEY_ERROR_CODE) {
+                // 같은 clientMessageId 의 재전송 (sender_client_message_id unique 인덱스)
+                DuplicateKeyException cause = new DuplicateKeyException(error.getMessage());
+                completionExecutor.execute(() -> pendingWrite.future().completeExceptionally(cause));
+            } else {
+                BaseException cause = new BaseException(BaseResponseStatus.FAILED_TO_SAVE_CHAT_MESSAGE);
+                completionExecutor.execute(() -> pendingWrite.future().completeExceptionally(cause));
+            }
+        }
+    }
+
+    private void fail(List<PendingWrite> batch, Throwable cause) {
+        for (PendingWrite pendingWrite : batch) {
+            completionExecutor.execute(() -> pendingWrite.future().completeExceptionally(cause));
+        }
+    }
+
+    private record PendingWrite(ChatMessage message, CompletableFuture<ChatMessage> future) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.chatservice.domain.infrastructure.cache;
+
+import com.example.chatservice.domain.entiy.ChatRoom;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관하는 채팅방 정보 (불변)
+ * - 참여자는 생성 후 바뀌지 않고, 마지막 메시지는 새 인스턴스로 교체(write-through)한다.
+ */
+public record CachedChatRoom(
+        String chatRoomUuid,
+        String participantAUuid,
+        String participantBUuid,
+        String lastMessage,
+        LocalDateTime lastMessageTime
+) {
+
+    public static CachedChatRoom from(ChatRoom chatRoom) {
+        return new CachedChatRoom(
+                chatRoom.getChatRoomUuid(),
+                chatRoom.getParticipantAUuid(),
+                chatRoom.getParticipantBUuid(),
+                chatRoom.getLastMessage(),
+                chatRoom.getLastMessageTime()
+        );
+    }
+
+    public CachedChatRoom withLastMessage(String message, LocalDateTime time) {
+        if (lastMessageTime != null && time.isBefore(lastMessageTime)) {
+            return this;
+        }
+        return new CachedChatRoom(chatRoomUuid, participantAUuid, participantBUuid, message, time);
+    }
+
+    public boolean hasParticipant(String memberUuid) {
+        return memberUuid.equals(participantAUuid) || memberUuid.equals(participantBUuid);
+    }
+
+    public String opponentOf(String memberUuid) {
+        return memberUuid.equals(participantAUuid) ? participantBUuid : participantAUuid;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.chatservice.domain.infrastructure.cache;
+
+import com.example.chatservice.common.cluster.ClusterEvent;
+import com.example.chatservice.common.cluster.ClusterEventListener;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다른 인스턴스에서 저장된 메시지를 로컬 캐시에 반영
+ * - 최근 메시지 버퍼는 _id 를 알 수 없으므로 비우고 다음 조회 때 다시 로딩한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatCacheClusterEventListener implements ClusterEventListener {
+
+    public static final String MESSAGE_PERSISTED = "chat.message.persisted";
+
+    private final ChatRoomCache chatRoomCache;
+    private final ChatMessageTailCache chatMessageTailCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onRemoteEvent(ClusterEvent event) {
+        if (!MESSAGE_PERSISTED.equals(event.type())) {
+            return;
+        }
+        JsonNode payload = event.payload();
+        chatMessageTailCache.invalidate(event.chatRoomUuid());
+        chatRoomCache.updateLastMessage(
+                event.chatRoomUuid(),
+                payload.path("content").asText(null),
+                objectMapper.convertValue(payload.get("sentAt"), LocalDateTime.class)
+        );
+    }
+}
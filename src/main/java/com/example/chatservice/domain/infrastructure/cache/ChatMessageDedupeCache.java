@@ -0,0 +1,75 @@
+package com.example.chatservice.domain.infrastructure.cache;
+
+import com.example.chatservice.domain.dto.out.SendChatMessageResDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * (보낸 사람, clientMessageId) 별 최초 전송 결과
+ * - 재전송이 window 안에 같은 인스턴스로 오면 id, 순번 발급과 저장, 브로드캐스트 없이 최초 결과를 돌려준다.
+ * - 최초 전송이 먼저 자리를 잡고(reserve) 결과가 정해지면 채우므로(complete), 그 사이에 온 재전송은 결과를 기다린다.
+ * - window 밖이거나 다른 인스턴스로 온 재전송은 chat_message 의 unique 인덱스(sender_client_message_id)에서 걸러진다.
+ */
+@Component
+public class ChatMessageDedupeCache {
+
+    private final Cache<String, CompletableFuture<SendChatMessageResDto>> cache;
+
+    public ChatMessageDedupeCache(
+            MeterRegistry meterRegistry,
+            @Value("${chat.message.dedupe.window:5m}") Duration window,
+            @Value("${chat.message.dedupe.max-size:100000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chat_message_dedupe");
+    }
+
+    /**
+     * 처음 보는 ID 이면 자리를 잡고 empty, 이미 있으면 최초 전송의 결과를 돌려준다. (아직 정해지지 않았으면 정해질 때 완료)
+     * - 자리를 잡은 쪽은 결과가 정해지면 complete, 실패하면 remove 해야 한다.
+     */
+    public Optional<CompletableFuture<SendChatMessageResDto>> reserve(String senderUuid, String clientMessageId) {
+        return Optional.ofNullable(cache.asMap().putIfAbsent(keyOf(senderUuid, clientMessageId), new CompletableFuture<>()));
+    }
+
+    public void complete(String senderUuid, String clientMessageId, SendChatMessageResDto result) {
+        CompletableFuture<SendChatMessageResDto> reserved = cache.getIfPresent(keyOf(senderUuid, clientMessageId));
+        if (reserved != null) {
+            reserved.complete(result);
+        }
+    }
+
+    // 저장소에서 찾은 최초 결과로 덮어쓴다 (기다리던 재전송도 이 결과를 받음)
+    public void put(String senderUuid, String clientMessageId, SendChatMessageResDto result) {
+        cache.asMap().compute(keyOf(senderUuid, clientMessageId), (key, reserved) -> {
+            if (reserved != null && reserved.complete(result)) {
+                return reserved;
+            }
+            return CompletableFuture.completedFuture(result);
+        });
+    }
+
+    // 저장에 실패한 전송은 재전송이 다시 처리될 수 있도록 제거 (기다리던 재전송은 실패로 끝남)
+    public void remove(String senderUuid, String clientMessageId) {
+        CompletableFuture<SendChatMessageResDto> reserved = cache.asMap().remove(keyOf(senderUuid, clientMessageId));
+        if (reserved != null) {
+            reserved.cancel(false);
+        }
+    }
+
+    private static String keyOf(String senderUuid, String clientMessageId) {
+        return senderUuid + ":" + clientMessageId;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.chatservice.domain.infrastructure.cache;
+
+import com.example.chatservice.common.response.CursorPage;
+import com.example.chatservice.common.response.KeysetCursor;
+import com.example.chatservice.domain.entiy.ChatMessage;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Optional;
+
+/**
+ * 채팅방 하나의 최근 메시지 N개 (sentAt, _id 오름차순)
+ * - complete 가 true 이면 채팅방 전체 메시지를 담고 있다는 뜻 (이보다 오래된 메시지가 없음)
+ */
+class ChatMessageTail {
+
+    private final int capacity;
+    private final LinkedList<ChatMessage> messages;
+    private boolean complete;
+
+    ChatMessageTail(int capacity, List<ChatMessage> newestAscending, boolean complete) {
+        this.capacity = capacity;
+        this.messages = new LinkedList<>(newestAscending);
+        this.complete = complete;
+        while (messages.size() > capacity) {
+            messages.removeFirst();
+            this.complete = false;
+        }
+    }
+
+    synchronized void append(ChatMessage message) {
+        // group-commit 완료 순서에 따라 늦게 도착할 수 있으므로 뒤에서부터 자리를 찾는다
+        ListIterator<ChatMessage> iterator = messages.listIterator(messages.size());
+        boolean positioned = false;
+        while (iterator.hasPrevious()) {
+            ChatMessage previous = iterator.previous();
+            int compared = compare(previous, message);
+            if (compared == 0) {
+                return; // 로딩 시 이미 포함된 메시지
+            }
+            if (compared < 0) {
+                iterator.next();
+                positioned = true;
+                break;
+            }
+        }
+        // 버퍼보다 오래된 메시지는 버퍼 밖의 메시지와 순서가 섞일 수 있으므로 담지 않는다
+        if (!positioned && !complete && !messages.isEmpty()) {
+            return;
+        }
+        iterator.add(message);
+
+        if (messages.size() > capacity) {
+            messages.removeFirst();
+            complete = false;
+        }
+    }
+
+    /**
+     * 버퍼만으로 페이지를 확정할 수 있을 때만 결과를 돌려준다.
+     * (다음 페이지 존재 여부를 알려면 size + 1 개가 있거나 버퍼가 채팅방 전체를 담고 있어야 함)
+     */
+    synchronized Optional<CursorPage<ChatMessage>> page(KeysetCursor cursor, int size) {
+        List<ChatMessage> newestFirst = new ArrayList<>(size + 1);
+        Iterator<ChatMessage> iterator = messages.descendingIterator();
+        while (iterator.hasNext() && newestFirst.size() <= size) {
+            ChatMessage message = iterator.next();
+            if (cursor == null || isBefore(message, cursor)) {
+                newestFirst.add(message);
+            }
+        }
+
+        if (newestFirst.size() <= size && !complete) {
+            return Optional.empty();
+        }
+        return Optional.of(CursorPage.ofNewestFirst(
+                newestFirst, size, last -> KeysetCursor.of(last.getSentAt(), last.getId()).encode()
+        ));
+    }
+
+    private static boolean isBefore(ChatMessage message, KeysetCursor cursor) {
+        long sentAt = epochMillis(message);
+        if (sentAt != cursor.epochMillis()) {
+            return sentAt < cursor.epochMillis();
+        }
+        return cursor.id() != null && message.getId().compareTo(cursor.id()) < 0;
+    }
+
+    private static int compare(ChatMessage a, ChatMessage b) {
+        int compared = Long.compare(epochMillis(a), epochMillis(b));
+        return compared != 0 ? compared : a.getId().compareTo(b.getId());
+    }
+
+    private static long epochMillis(ChatMessage message) {
+        return message.getSentAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.chatservice.domain.infrastructure.cache;
+
+import com.example.chatservice.common.response.CursorPage;
+import com.example.chatservice.common.response.KeysetCursor;
+import com.example.chatservice.domain.dto.in.ChatMessageReqDto;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.example.chatservice.domain.infrastructure.ChatMessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 캐시
+ * - 가장 흔한 요청인 "커서 없는 최신 페이지"(또는 버퍼 안쪽을 가리키는 커서)를 MongoDB 조회 없이 응답한다.
+ * - 메시지 저장 시 append 로 채우고, 캐시에 없는 채팅방은 첫 조회 때 MongoDB 에서 최근 N개를 읽어 채운다.
+ * - 전체 메모리 사용량은 max-messages(모든 채팅방 버퍼 용량의 합)로 제한하며, 넘치면 최근에 덜 쓰인 채팅방부터 제거
+ */
+@Component
+public class ChatMessageTailCache {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final int capacity;
+    private final Cache<String, ChatMessageTail> cache;
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final Counter pageHitCounter;
+    private final Counter pageMissCounter;
+
+    public ChatMessageTailCache(
+            ChatMessageRepository chatMessageRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.message.tail-cache.capacity-per-room:50}") int capacity,
+            @Value("${chat.message.tail-cache.max-messages:200000}") long maxMessages
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.capacity = capacity;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMessages)
+                .weigher((String chatRoomUuid, ChatMessageTail tail) -> capacity)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chat_message_tail");
+
+        this.pageHitCounter = Counter.builder("chat.message.tail-cache.page")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.pageMissCounter = Counter.builder("chat.message.tail-cache.page")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public CursorPage<ChatMessage> findChatMessagesByCursor(String chatRoomUuid, ChatMessageReqDto chatMessageReqDto) {
+        Integer size = chatMessageReqDto.getSize();
+        if (size == null || size <= capacity) {
+            KeysetCursor cursor = KeysetCursor.decode(chatMessageReqDto.getCursor());
+            if (cursor != null && cursor.id() != null) {
+                cursor.objectId(); // 메모리 버퍼에서 처리하더라도 잘못된 커서는 DB 조회와 똑같이 거부
+            }
+            Optional<CursorPage<ChatMessage>> page = loadTail(chatRoomUuid, cursor)
+                    .flatMap(tail -> tail.page(cursor, size != null ? size : DEFAULT_PAGE_SIZE));
+            if (page.isPresent()) {
+                pageHitCounter.increment();
+                return page.get();
+            }
+        }
+
+        pageMissCounter.increment();
+        return chatMessageRepository.findChatMessagesByCursor(chatRoomUuid, chatMessageReqDto);
+    }
+
+    /**
+     * 저장이 끝난 메시지 반영 (캐시에 올라와 있는 채팅방만)
+     * - 같은 채팅방을 로딩 중이면 로딩이 끝날 때까지 기다렸다가 반영하고, 로딩 결과에 이미 있으면 무시된다.
+     */
+    public void append(ChatMessage chatMessage) {
+        cache.asMap().computeIfPresent(chatMessage.getChatRoomUuid(), (chatRoomUuid, tail) -> {
+            tail.append(chatMessage);
+            return tail;
+        });
+    }
+
+    public void invalidate(String chatRoomUuid) {
+        cache.invalidate(chatRoomUuid);
+    }
+
+    // 커서 없는 최신 페이지 요청에서만 MongoDB 에서 새로 채운다 (오래된 페이지 요청으로 캐시를 채우지 않음)
+    private Optional<ChatMessageTail> loadTail(String chatRoomUuid, KeysetCursor cursor) {
+        if (cursor != null) {
+            return Optional.ofNullable(cache.getIfPresent(chatRoomUuid));
+        }
+        return Optional.of(cache.get(chatRoomUuid, key -> {
+            CursorPage<ChatMessage> newest = chatMessageRepository.findChatMessagesByCursor(
+                    key, new ChatMessageReqDto(null, null, capacity)
+            );
+            return new ChatMessageTail(capacity, newest.getContent(), !newest.getHasNext());
+        }));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.chatservice.domain.infrastructure.cache;
+
+import com.example.chatservice.domain.infrastructure.ChatRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ChatRoomRepository 앞단의 in-process 채팅방 캐시
+ * - 크기(max-size)와 TTL(ttl)로 제한되며, 마지막 메시지는 write-through 로 반영한다.
+ * - Caffeine 기반이라 STOMP inbound 스레드와 Tomcat 워커에서 동시에 접근해도 안전하다.
+ * - 적중/미스/제거 지표는 cache.* (cache=chat_room) 로 노출
+ */
+@Component
+public class ChatRoomCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Cache<String, CachedChatRoom> cache;
+
+    public ChatRoomCache(
+            ChatRoomRepository chatRoomRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.room.cache.max-size:100000}") long maxSize,
+            @Value("${chat.room.cache.ttl:10m}") Duration ttl
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chat_room");
+    }
+
+    public Optional<CachedChatRoom> get(String chatRoomUuid) {
+        return Optional.ofNullable(cache.get(chatRoomUuid, key -> chatRoomRepository.findByChatRoomUuid(key)
+                .map(CachedChatRoom::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 캐시에 없는 채팅방만 모아서 한 번에 조회
+     */
+    public Map<String, CachedChatRoom> getAll(Collection<String> chatRoomUuids) {
+        return cache.getAll(chatRoomUuids, missing -> {
+            Map<String, CachedChatRoom> loaded = new HashMap<>();
+            chatRoomRepository.findAllByChatRoomUuidIn(List.copyOf(missing))
+                    .forEach(chatRoom -> loaded.put(chatRoom.getChatRoomUuid(), CachedChatRoom.from(chatRoom)));
+            return loaded;
+        });
+    }
+
+    public void put(CachedChatRoom chatRoom) {
+        cache.put(chatRoom.chatRoomUuid(), chatRoom);
+    }
+
+    public void updateLastMessage(String chatRoomUuid, String message, LocalDateTime time) {
+        cache.asMap().computeIfPresent(chatRoomUuid, (key, room) -> room.withLastMessage(message, time));
+    }
+}
@@ -1,13 +1,18 @@
 package com.example.chatservice.domain.presentation;
 
+import com.example.chatservice.common.exception.BaseException;
+import com.example.chatservice.common.response.BaseResponseStatus;
 import com.example.chatservice.domain.application.ChatMessageService;
+import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
 import com.example.chatservice.domain.dto.in.SendChatMessageReqDto;
+import com.example.chatservice.domain.vo.in.MarkMessageAsReadReqVo;
 import com.example.chatservice.domain.vo.in.SendChatMessageReqVo;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
+
 @Controller
 @RequiredArgsConstructor
 public class ChatMessageController {
@@ -16,17 +21,31 @@ public class ChatMessageController {
 
     @MessageMapping("/chat.sendMessage")
     public void sendMessage(
-            @Header("X-Member-UUID") String senderUuid,
+            Principal principal,
             SendChatMessageReqVo vo
     ) {
-        chatMessageService.sendMessage(SendChatMessageReqDto.of(senderUuid, vo));
+        chatMessageService.sendMessage(SendChatMessageReqDto.of(memberUuidOf(principal), vo));
     }
 
-    /*@MessageMapping("/chat.read")
+    @MessageMapping("/chat.read")
     public void readMessages(
-            @Header("X-Member-UUID") String readerUuid,
-            ReadMessageReqDto dto
+            Principal principal,
+            MarkMessageAsReadReqVo vo
     ) {
-        chatMessageService.markMessagesAsRead(readerUuid, dto.getMessageIds());
-    }*/
+        // 읽은 위치 없이 온 이벤트는 어디까지 봤는지 알 수 없으므로 거절
+        if (vo.getLastReadAt() == null) {
+            throw new BaseException(BaseResponseStatus.INVALID_READ_POSITION);
+        }
+        chatMessageService.readMessages(
+                MarkMessageAsReadReqDto.of(memberUuidOf(principal), vo.getChatRoomUuid(), vo.getLastReadAt())
+        );
+    }
+
+    // 핸드셰이크에서 지정한 세션 principal (MemberPrincipal)
+    private static String memberUuidOf(Principal principal) {
+        if (principal == null) {
+            throw new BaseException(BaseResponseStatus.NO_SIGN_IN);
+        }
+        return principal.getName();
+    }
 }
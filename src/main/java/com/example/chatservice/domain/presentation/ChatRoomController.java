@@ -3,19 +3,26 @@ package com.example.chatservice.domain.presentation;
 import com.example.chatservice.common.entity.BaseResponseEntity;
 import com.example.chatservice.common.response.CursorPage;
 import com.example.chatservice.domain.application.ChatRoomService;
+import com.example.chatservice.domain.dto.in.ChatMessageGapReqDto;
 import com.example.chatservice.domain.dto.in.ChatMessageReqDto;
 import com.example.chatservice.domain.dto.in.ChatRoomListReqDto;
 import com.example.chatservice.domain.dto.in.CreateChatRoomReqDto;
 import com.example.chatservice.domain.dto.in.MarkMessageAsReadReqDto;
+import com.example.chatservice.domain.dto.out.ChatMessageGapResDto;
 import com.example.chatservice.domain.dto.out.ChatRoomListResDto;
 import com.example.chatservice.domain.dto.out.ChatMessageResDto;
+import com.example.chatservice.domain.vo.in.ChatMessageGapReqVo;
 import com.example.chatservice.domain.vo.in.CreateChatRoomReqVo;
 import com.example.chatservice.domain.vo.out.CreateChatRoomResVo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/chat-room")
 @Tag(name = "ChatRoom", description = "채팅방 관련 API")
@@ -71,18 +78,20 @@ public class ChatRoomController {
                     
                         [요청 파라미터]
                         - path variable: chatRoomUuid (String) 채팅방 고유 ID
+                        - lastReadAt: (LocalDateTime) 마지막으로 본 메시지의 sentAt (생략하면 채팅방의 마지막 메시지까지)
                     
                         [처리 로직]
-                        - 해당 채팅방의 안 읽은 메시지를 읽음 처리
+                        - lastReadAt 이전에 받은 메시지를 읽음 처리
                     
                     """
     )
     @PatchMapping("/read/{chatRoomUuid}")
     public BaseResponseEntity<Void> readChatMessage(
             @RequestHeader("X-Member-UUID") String receiverUuid,
-            @PathVariable String chatRoomUuid
+            @PathVariable String chatRoomUuid,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastReadAt
     ) {
-        chatRoomService.markUnreadMessagesAsRead(MarkMessageAsReadReqDto.of(receiverUuid, chatRoomUuid));
+        chatRoomService.markUnreadMessagesAsRead(MarkMessageAsReadReqDto.of(receiverUuid, chatRoomUuid, lastReadAt));
         return new BaseResponseEntity<>();
     }
 
@@ -92,8 +101,7 @@ public class ChatRoomController {
         회원이 참여 중인 채팅방을 커서 기반 페이지네이션 방식으로 조회합니다.
 
         [정렬 방식]
-        - 채팅방은 마지막 메시지 시간(`lastMessageTime`) 기준으로 내림차순 정렬됩니다.
-        - 단, `lastMessageTime`이 없는 채팅방은 생성일(`createdAt`) 기준으로 정렬됩니다.
+        - 채팅방은 마지막 활동 시간(마지막 메시지 시간, 메시지가 없으면 생성일) 기준으로 내림차순 정렬됩니다.
         
         [요청 경로]
         - GET /api/v1/chat-room/list
@@ -102,16 +110,20 @@ public class ChatRoomController {
         - X-Member-UUID: (String) 회원 고유 식별자
 
         [요청 파라미터 - QueryString]
-        - cursor: (String) 이전 페이지 마지막 채팅방의 마지막 메시지 시간 (ISO 8601 형식, nullable)
+        - cursor: (String) 이전 응답의 nextCursor (nullable, 첫 페이지는 생략)
         - size: (int) 페이지 크기 (기본값: 10)
 
         [요청 예시]
-        - /api/v1/chat-room/list?cursor=2025-06-28T15:33:40
+        - /api/v1/chat-room/list?cursor=AgAAAZe3xY2gMTIz
 
         [응답 필드]
         - content: 채팅방 리스트
-        - nextCursor: 다음 페이지 조회를 위한 커서 (마지막 채팅방의 lastMessageTime)
+        - nextCursor: 다음 페이지 조회를 위한 커서 (불투명 문자열)
         - hasNext: 다음 페이지 존재 여부
+
+        [실시간 갱신]
+        - 목록 항목 변경(마지막 메시지, 안 읽은 메시지 수)은 WebSocket /user/queue/rooms 로 전달되므로
+          재연결 시에만 다시 조회하면 됩니다.
     """
     )
     @GetMapping("/list")
@@ -159,12 +171,12 @@ public class ChatRoomController {
 
             [요청 파라미터]
             - path variable: chatRoomUuid (String) 채팅방 UUID
-            - cursor: (String) 마지막 메시지 UUID (nullable)
+            - cursor: (String) 이전 응답의 nextCursor (nullable, 첫 페이지는 생략)
             - size: (int) 페이지 크기 (기본값: 10)
 
             [응답 필드]
             - content: 메시지 리스트
-            - nextCursor: 다음 페이지 커서
+            - nextCursor: 다음 페이지 커서 (불투명 문자열, 그대로 다음 요청의 cursor 로 전달)
 
             [예외 상황]
             - NO_EXIST_CHAT_ROOM: 채팅방 존재하지 않음
@@ -177,4 +189,41 @@ public class ChatRoomController {
     ) {
         return new BaseResponseEntity<>(chatRoomService.getChatMessages(chatRoomUuid, chatMessageReqDto));
     }
+
+    @Operation(
+            summary = "재연결 시 놓친 메시지 조회",
+            description = """
+            여러 채팅방에 대해 마지막으로 받은 메시지 순번(seq) 이후의 메시지를 한 번에 조회합니다.
+
+            [요청 경로]
+            - POST /api/v1/chat-room/message/since
+
+            [요청 헤더]
+            - X-Member-UUID: (String) 회원 고유 식별자
+
+            [요청 바디]
+            - lastSeqByChatRoom: (Map<String, Long>) 채팅방 UUID -> 마지막으로 받은 seq (받은 적 없으면 0, 최대 100개)
+            - size: (int) 전체 최대 메시지 수 (기본값: 100, 최대 500)
+
+            [응답 필드]
+            - chatRoomUuid: 채팅방 UUID
+            - messages: seq 오름차순 메시지 리스트
+            - hasNext: 크기 제한으로 잘렸거나 아직 저장 중인 메시지가 있는지 여부 (true 이면 마지막 seq 로 다시 요청)
+
+            [참고]
+            - seq 는 채팅방 안에서 증가하지만 연속적이지 않을 수 있으므로 번호가 비어 있어도 누락이 아닙니다.
+            - seq 도입 이전 메시지는 포함되지 않습니다.
+            - 회원이 참여하지 않은 채팅방은 응답에서 제외됩니다.
+
+            [예외 상황]
+            - TOO_MANY_CHAT_ROOMS: 채팅방 수가 100개를 초과함
+        """
+    )
+    @PostMapping("/message/since")
+    public BaseResponseEntity<List<ChatMessageGapResDto>> getMissedChatMessages(
+            @RequestHeader("X-Member-UUID") String memberUuid,
+            @RequestBody ChatMessageGapReqVo vo
+    ) {
+        return new BaseResponseEntity<>(chatRoomService.getMissedChatMessages(ChatMessageGapReqDto.of(memberUuid, vo)));
+    }
 }
@@ -0,0 +1,13 @@
+package com.example.chatservice.domain.vo.in;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class ChatMessageGapReqVo {
+    private Map<String, Long> lastSeqByChatRoom;
+    private Integer size;
+}
@@ -4,15 +4,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 public class MarkMessageAsReadReqVo {
     private String receiverUuid;
     private String chatRoomUuid;
+    // 클라이언트가 마지막으로 본 메시지의 sentAt
+    private LocalDateTime lastReadAt;
 
     @Builder
-    public MarkMessageAsReadReqVo(String receiverUuid, String chatRoomUuid) {
+    public MarkMessageAsReadReqVo(String receiverUuid, String chatRoomUuid, LocalDateTime lastReadAt) {
         this.receiverUuid = receiverUuid;
         this.chatRoomUuid = chatRoomUuid;
+        this.lastReadAt = lastReadAt;
     }
 }
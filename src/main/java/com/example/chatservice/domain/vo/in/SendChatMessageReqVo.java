@@ -10,11 +10,13 @@ public class SendChatMessageReqVo {
     private String chatRoomUuid;
     private String receiverUuid;
     private String content;
+    private String clientMessageId; // 클라이언트가 만든 메시지 ID (재전송 시 같은 값, 선택)
 
     @Builder
-    public SendChatMessageReqVo(String chatRoomUuid, String receiverUuid, String content) {
+    public SendChatMessageReqVo(String chatRoomUuid, String receiverUuid, String content, String clientMessageId) {
         this.chatRoomUuid = chatRoomUuid;
         this.receiverUuid = receiverUuid;
         this.content = content;
+        this.clientMessageId = clientMessageId;
     }
 }
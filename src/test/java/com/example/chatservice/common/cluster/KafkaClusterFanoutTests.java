@@ -0,0 +1,93 @@
+package com.example.chatservice.common.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 임베디드 Kafka 위에 인스턴스 두 개를 띄워 fan-out 동작 확인
+ */
+@EmbeddedKafka(partitions = 2, topics = KafkaClusterFanoutTests.TOPIC)
+class KafkaClusterFanoutTests {
+
+    static final String TOPIC = "chat-room-events-test";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<KafkaClusterFanout> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(KafkaClusterFanout::stop);
+    }
+
+    @Test
+    void broadcastReachesSubscribersOnOtherNode(EmbeddedKafkaBroker broker) throws Exception {
+        SimpMessageSendingOperations deliveryA = mock(SimpMessageSendingOperations.class);
+        SimpMessageSendingOperations deliveryB = mock(SimpMessageSendingOperations.class);
+        ClusterEventListener listenerB = mock(ClusterEventListener.class);
+
+        KafkaClusterFanout nodeA = startNode("node-a", broker, deliveryA, List.of());
+        KafkaClusterFanout nodeB = startNode("node-b", broker, deliveryB, List.of(listenerB));
+
+        nodeA.broadcast("room-1", "/queue/messages/room-1", Map.of("content", "hello"));
+        nodeA.publish("room-1", "chat.message.persisted", Map.of("content", "hello"));
+
+        // 발행한 인스턴스는 로컬로 한 번만 전달
+        verify(deliveryA, timeout(10_000)).convertAndSend(eq("/queue/messages/room-1"), any(Object.class));
+        verify(deliveryB, timeout(10_000)).convertAndSend(
+                eq("/queue/messages/room-1"),
+                argThat((JsonNode payload) -> "hello".equals(payload.path("content").asText()))
+        );
+        verify(listenerB, timeout(10_000)).onRemoteEvent(
+                argThat(event -> "chat.message.persisted".equals(event.type()) && "node-a".equals(event.nodeId()))
+        );
+        verify(deliveryA, never()).convertAndSend(eq("/queue/messages/room-1"), any(JsonNode.class));
+    }
+
+    private KafkaClusterFanout startNode(
+            String nodeId,
+            EmbeddedKafkaBroker broker,
+            SimpMessageSendingOperations delivery,
+            List<ClusterEventListener> listeners
+    ) throws Exception {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(nodeId, "true", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        KafkaClusterFanout node = new KafkaClusterFanout(
+                nodeId, TOPIC, kafkaTemplate, new DefaultKafkaConsumerFactory<>(consumerProps),
+                delivery, listeners, objectMapper
+        );
+        node.start();
+        nodes.add(node);
+        ContainerTestUtils.waitForAssignment(node.listenerContainer(), broker.getPartitionsPerTopic());
+        return node;
+    }
+}
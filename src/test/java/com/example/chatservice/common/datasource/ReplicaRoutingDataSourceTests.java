@@ -0,0 +1,160 @@
+package com.example.chatservice.common.datasource;
+
+import com.example.chatservice.common.websocket.MemberPrincipal;
+import com.example.chatservice.common.websocket.ReadYourWritesChannelInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 H2 두 개(primary, replica)로 라우팅 동작 확인
+ * - 각 DB 의 node 테이블에 자기 이름을 넣어 두고 어느 쪽에서 읽었는지 확인한다.
+ * - read-your-writes 는 REST(헤더), STOMP(세션 회원), write-behind(markWriter) 경로를 각각 확인한다.
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private final AtomicReference<String> currentMember = new AtomicReference<>();
+
+    private SwitchableDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        replica = new SwitchableDataSource(h2("replica"));
+
+        routingDataSource = new ReplicaRoutingDataSource(
+                primary, Map.of("replica-0", replica), Duration.ofSeconds(5),
+                // ReplicaDataSourceConfig 와 같은 순서: STOMP 처리 중인 회원, 없으면 REST 요청 회원
+                () -> ReadYourWritesContext.currentMemberUuid() != null
+                        ? ReadYourWritesContext.currentMemberUuid() : currentMember.get()
+        );
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhileReplicaIsDown() {
+        replica.down = true;
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(routingDataSource.getUnhealthyReplicas()).containsExactly("replica-0");
+
+        // 복구 확인 전까지는 다시 시도하지 않는다
+        replica.down = false;
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.getUnhealthyReplicas()).isEmpty();
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readsOwnWritesFromPrimaryWithinWindow() {
+        currentMember.set("member-a");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update node set touched = true"));
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+        // 다른 회원의 읽기는 그대로 replica
+        currentMember.set("member-b");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readsOwnStompWritesFromPrimaryWithinWindow() {
+        ReadYourWritesChannelInterceptor interceptor = new ReadYourWritesChannelInterceptor();
+        Message<byte[]> send = stompFrom("member-a");
+
+        interceptor.beforeHandle(send, null, null);
+        try {
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("update node set touched = true"));
+        } finally {
+            interceptor.afterMessageHandled(send, null, null, null);
+        }
+        assertThat(ReadYourWritesContext.currentMemberUuid()).isNull();
+
+        // 같은 회원의 다음 REST 읽기는 primary, 다른 회원은 replica
+        currentMember.set("member-a");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        currentMember.set("member-b");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readsWriteBehindResultFromPrimaryAfterMarked() {
+        currentMember.set("member-c");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+
+        routingDataSource.markWriter("member-c");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    private static Message<byte[]> stompFrom(String memberUuid) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setUser(new MemberPrincipal(memberUuid));
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20), touched boolean default false)");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+}
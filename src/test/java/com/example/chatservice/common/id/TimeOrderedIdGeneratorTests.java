@@ -0,0 +1,113 @@
+package com.example.chatservice.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTests {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    void idsAndEncodedStringsIncreaseMonotonically() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, System::currentTimeMillis);
+
+        long previousId = generator.nextId();
+        String previousString = TimeOrderedIdGenerator.encode(previousId);
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            String encoded = TimeOrderedIdGenerator.encode(id);
+            assertThat(id).isGreaterThan(previousId);
+            assertThat(encoded).hasSize(13).isGreaterThan(previousString);
+            previousId = id;
+            previousString = encoded;
+        }
+    }
+
+    @Test
+    void clockRollbackDoesNotRepeatOrGoBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, clock::get);
+
+        long beforeRollback = generator.nextId();
+        clock.set(NOW - 5_000);
+        long afterRollback = generator.nextId();
+        clock.set(NOW + 1);
+        long recovered = generator.nextId();
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+        assertThat(recovered).isGreaterThan(afterRollback);
+    }
+
+    @Test
+    void exhaustedMillisecondBorrowsTheNextOne() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, () -> NOW);
+
+        // 같은 ms 에 순번(4096개)보다 많이 발급해도 중복, 역행 없이 다음 ms 를 당겨 쓴다
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void nodeIdIsEmbeddedInTheId() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1023, () -> NOW);
+
+        assertThat((generator.nextId() >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(1023);
+    }
+
+    @Test
+    void missingNodeIdFailsFastWhenRunningMultipleInstances() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1, "kafka"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(1024, "local"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new TimeOrderedIdGenerator(-1, "local").nextId()).isPositive();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.chatservice.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * clientOutboundChannel -> STOMP 인코딩 -> 세션 전송까지 CBOR 프레임 왕복 확인
+ */
+class CborFrameTranscoderTests {
+
+    private static final byte[] JSON = "{\"chatRoomUuid\":\"room-1\",\"content\":\"안녕\",\"seq\":7}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final StompEncodingNegotiator negotiator = new StompEncodingNegotiator();
+    private final CborFrameTranscoder transcoder = new CborFrameTranscoder(negotiator);
+    private final StompSubProtocolHandler stompHandler = new StompSubProtocolHandler();
+
+    @Test
+    void cborSessionReceivesBinaryFrameThatDecodesToOriginalPayload() throws Exception {
+        connect("s1", StompFrameEncoding.CBOR.getMimeType().toString());
+        WebSocketSession raw = openSession("s1");
+
+        stompHandler.handleMessageToClient(decorate(raw), transcoder.preSend(outboundMessage("s1"), null));
+
+        WebSocketMessage<?> sent = captureSent(raw);
+        assertThat(sent).isInstanceOf(BinaryMessage.class);
+
+        List<Message<byte[]>> frames = new StompDecoder().decode(ByteBuffer.wrap(((BinaryMessage) sent).getPayload().array()));
+        assertThat(frames).hasSize(1);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(frames.get(0));
+        assertThat(accessor.getCommand()).isEqualTo(StompCommand.MESSAGE);
+        assertThat(accessor.getContentType()).isEqualTo(StompFrameEncoding.CBOR.getMimeType());
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(frames.get(0).getPayload()))
+                .isEqualTo(new ObjectMapper().readTree(JSON));
+    }
+
+    @Test
+    void jsonSessionStillReceivesTextFrame() throws Exception {
+        connect("s2", null);
+        WebSocketSession raw = openSession("s2");
+
+        stompHandler.handleMessageToClient(decorate(raw), transcoder.preSend(outboundMessage("s2"), null));
+
+        WebSocketMessage<?> sent = captureSent(raw);
+        assertThat(sent).isInstanceOf(TextMessage.class);
+        assertThat(((TextMessage) sent).getPayload()).contains(new String(JSON, StandardCharsets.UTF_8));
+    }
+
+    private void connect(String sessionId, String acceptContentType) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (acceptContentType != null) {
+            accessor.setNativeHeader(StompFrameEncoding.ACCEPT_HEADER, acceptContentType);
+        }
+        negotiator.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+
+    private Message<byte[]> outboundMessage(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination("/queue/messages/room-1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(JSON, accessor.getMessageHeaders());
+    }
+
+    private WebSocketSession openSession(String sessionId) {
+        WebSocketSession raw = mock(WebSocketSession.class);
+        when(raw.getId()).thenReturn(sessionId);
+        when(raw.isOpen()).thenReturn(true);
+        return raw;
+    }
+
+    // 실제 설정처럼 데코레이터 팩토리를 거친 세션을 얻는다
+    private WebSocketSession decorate(WebSocketSession raw) throws Exception {
+        WebSocketHandler inner = mock(WebSocketHandler.class);
+        transcoder.decorate(inner).afterConnectionEstablished(raw);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(inner).afterConnectionEstablished(captor.capture());
+        return captor.getValue();
+    }
+
+    private WebSocketMessage<?> captureSent(WebSocketSession raw) throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(raw).sendMessage(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.common.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * chat_room.last_message 컬럼 길이(255자)를 넘는 메시지가 잘려서 반영되는지, 반영 후 보낸 회원이 read-your-writes 대상이 되는지 확인
+ * - JdbcTemplate 은 mock 으로 두고 batch UPDATE 에 넘어온 값을 확인한다.
+ */
+class ChatRoomLastMessageWriteBufferTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ReplicaRoutingDataSource replicaRoutingDataSource = mock(ReplicaRoutingDataSource.class);
+    private final ChatRoomLastMessageWriteBuffer buffer = new ChatRoomLastMessageWriteBuffer(
+            jdbcTemplate,
+            new SimpleMeterRegistry(),
+            new StaticListableBeanFactory(Map.of("replicaRoutingDataSource", replicaRoutingDataSource))
+                    .getBeanProvider(ReplicaRoutingDataSource.class)
+    );
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void truncatesMessageLongerThanColumnOnEnqueue() {
+        String longMessage = "가".repeat(300);
+
+        buffer.enqueue("room", "sender", longMessage, LocalDateTime.now());
+        buffer.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE chat_room"), captor.capture());
+        String saved = (String) captor.getValue().get(0)[0];
+        assertThat(saved).hasSize(ChatRoomLastMessageWriteBuffer.LAST_MESSAGE_MAX_LENGTH);
+        assertThat(longMessage).startsWith(saved);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE chat_inbox"), any(List.class));
+    }
+
+    @Test
+    void marksSenderAsRecentWriterAfterFlush() {
+        buffer.enqueue("room", "sender", "안녕", LocalDateTime.now());
+        verify(replicaRoutingDataSource, never()).markWriter("sender");
+
+        buffer.flush();
+
+        verify(replicaRoutingDataSource).markWriter("sender");
+    }
+
+    @Test
+    void truncatesByCodePointsWithoutSplittingSurrogatePairs() {
+        String emojis = "😀".repeat(300);
+
+        String truncated = ChatRoomLastMessageWriteBuffer.truncate(emojis);
+
+        assertThat(truncated.codePointCount(0, truncated.length()))
+                .isEqualTo(ChatRoomLastMessageWriteBuffer.LAST_MESSAGE_MAX_LENGTH);
+        assertThat(Character.isHighSurrogate(truncated.charAt(truncated.length() - 1))).isFalse();
+    }
+
+    @Test
+    void keepsShortMessageAsIs() {
+        assertThat(ChatRoomLastMessageWriteBuffer.truncate("안녕")).isEqualTo("안녕");
+        assertThat(ChatRoomLastMessageWriteBuffer.truncate(null)).isNull();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.chatservice.domain.infrastructure;
+
+import com.example.chatservice.common.exception.BaseException;
+import com.example.chatservice.common.response.BaseResponseStatus;
+import com.example.chatservice.domain.entiy.ChatMessage;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * writer 스레드의 일괄 저장 조건(개수, 대기 시간), 일부 실패 처리, 종료 시 남은 요청 저장 확인
+ * - MongoTemplate 은 mock 으로 두고 insertMany 에 넘어온 묶음을 기록한다.
+ */
+class GroupCommitChatMessageWriterTests {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulkOperations = mock(BulkOperations.class);
+    private final List<List<ChatMessage>> batches = new CopyOnWriteArrayList<>();
+
+    private GroupCommitChatMessageWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void flushesAsSoonAsBatchIsFull() throws Exception {
+        recordBatches();
+        // 대기 시간이 길어도 개수가 차면 바로 저장
+        writer = start(3, 10_000);
+
+        List<CompletableFuture<ChatMessage>> futures = writeAll(3);
+
+        for (CompletableFuture<ChatMessage> future : futures) {
+            assertThat(future.get(2, TimeUnit.SECONDS)).isNotNull();
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(3);
+    }
+
+    @Test
+    void flushesPartialBatchAfterMaxDelay() throws Exception {
+        recordBatches();
+        writer = start(100, 50);
+
+        ChatMessage saved = writer.write(message(0)).get(2, TimeUnit.SECONDS);
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(1);
+    }
+
+    @Test
+    void completesEachFutureByItsOwnBulkResult() throws Exception {
+        BulkOperationException exception = mock(BulkOperationException.class);
+        when(exception.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1),
+                new BulkWriteError(2, "bad value", new BsonDocument(), 2)
+        ));
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(ChatMessage.class)))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(exception);
+        writer = start(3, 10_000);
+
+        List<CompletableFuture<ChatMessage>> futures = writeAll(3);
+
+        assertThat(futures.get(0).get(2, TimeUnit.SECONDS)).isNotNull();
+        assertThatThrownBy(() -> futures.get(1).get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> futures.get(2).get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(BaseException.class, e ->
+                        assertThat(e.getStatus()).isEqualTo(BaseResponseStatus.FAILED_TO_SAVE_CHAT_MESSAGE));
+    }
+
+    @Test
+    void savesQueuedMessagesOnStopAndRejectsNewOnes() throws Exception {
+        recordBatches();
+        writer = start(2, 50);
+
+        List<CompletableFuture<ChatMessage>> futures = writeAll(5);
+        writer.stop();
+
+        for (CompletableFuture<ChatMessage> future : futures) {
+            assertThat(future.get(2, TimeUnit.SECONDS)).isNotNull();
+        }
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(5);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(2));
+
+        assertThatThrownBy(() -> writer.write(message(5)))
+                .isInstanceOfSatisfying(BaseException.class, e ->
+                        assertThat(e.getStatus()).isEqualTo(BaseResponseStatus.CHAT_MESSAGE_QUEUE_FULL));
+        writer = null;
+    }
+
+    private void recordBatches() {
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(ChatMessage.class)))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.<List<ChatMessage>>getArgument(0)));
+            return bulkOperations;
+        });
+        when(bulkOperations.execute()).thenReturn(null);
+    }
+
+    private GroupCommitChatMessageWriter start(int maxBatchSize, long maxDelayMillis) {
+        GroupCommitChatMessageWriter groupCommitWriter = new GroupCommitChatMessageWriter(
+                mongoTemplate, new SimpleMeterRegistry(), 100, maxBatchSize, maxDelayMillis, 100
+        );
+        groupCommitWriter.start();
+        return groupCommitWriter;
+    }
+
+    private List<CompletableFuture<ChatMessage>> writeAll(int count) {
+        List<CompletableFuture<ChatMessage>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(writer.write(message(i)));
+        }
+        return futures;
+    }
+
+    private static ChatMessage message(int index) {
+        return ChatMessage.builder()
+                .messageUuId("message-" + index)
+                .chatRoomUuid("room")
+                .senderUuid("sender")
+                .receiverUuid("receiver")
+                .content("message " + index)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+}